@@ -0,0 +1,209 @@
+package org.example.board.benchmark;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.board.BoardApplication;
+import org.example.board.cache.PostCache;
+import org.example.board.event.FollowCreatedEvent;
+import org.example.board.model.entity.FollowEntity;
+import org.example.board.model.entity.LikeEntity;
+import org.example.board.model.entity.PostEntity;
+import org.example.board.model.entity.ReplyEntity;
+import org.example.board.model.entity.UserEntity;
+import org.example.board.repository.PostEntityRepository;
+import org.example.board.repository.UserEntityRepository;
+import org.example.board.service.BulkWriteService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toMap;
+
+// application.yml 의 로컬 Postgres(board-db)에 실제로 insert 한다. ddl-auto 가 create-drop 이므로 전용 DB 에서 실행할 것.
+// 좋아요와 팔로우는 (user, post) / (follower, following) 이 unique 이므로 호출마다 새 게시물/사용자를 대상으로 한다.
+// 기준선(WithIdentity)은 같은 컬럼과 인덱스를 가진 IDENTITY 매핑 테이블(*_identity)에 쓴다.
+// ./gradlew jmh -PjmhIncludes=BulkInsertBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BulkInsertBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private ConfigurableApplicationContext context;
+    private UserEntityRepository userEntityRepository;
+    private PostEntityRepository postEntityRepository;
+    private BulkWriteService bulkWriteService;
+    private PostCache postCache;
+    private ApplicationEventPublisher eventPublisher;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private int batchSize;
+    private UserEntity user;
+    private PostEntity post;
+    private List<UserEntity> users;
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        context = SpringApplication.run(
+                BoardApplication.class, "--spring.jpa.show-sql=false", "--server.port=0");
+        userEntityRepository = context.getBean(UserEntityRepository.class);
+        postEntityRepository = context.getBean(PostEntityRepository.class);
+        bulkWriteService = context.getBean(BulkWriteService.class);
+        postCache = context.getBean(PostCache.class);
+        eventPublisher = context;
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        batchSize = context.getEnvironment().getProperty(
+                "spring.jpa.properties.hibernate.jdbc.batch_size", Integer.class, 50);
+
+        user = userEntityRepository.save(newUser());
+        post = postEntityRepository.save(PostEntity.of("benchmark", user));
+
+        var newUsers = new ArrayList<UserEntity>(ROWS);
+        for(int i = 0; i < ROWS; i++){
+            newUsers.add(newUser());
+        }
+        users = userEntityRepository.saveAll(newUsers);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown(){
+        context.close();
+    }
+
+    // 기존 IDENTITY 매핑. id 를 insert 결과로 받아야 해서 Hibernate 가 JDBC batch 를 쓰지 못하고 한 행씩 보낸다.
+    // 트랜잭션, 카운터 갱신, 캐시 무효화, 이벤트는 BulkWriteService 와 똑같이 해서 id 전략만 다르게 한다.
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void saveRepliesWithIdentity(){
+        List<IdentityReplyEntity> replies = new ArrayList<>(ROWS);
+        for(int i = 0; i < ROWS; i++){
+            replies.add(IdentityReplyEntity.of("reply " + i, user, post));
+        }
+        var postIds = transactionTemplate.execute(status -> {
+            persistAll(replies);
+            var counts = countBy(replies, reply -> reply.getPost().getPostId());
+            counts.forEach(postEntityRepository::addRepliesCount);
+            return counts.keySet();
+        });
+        postIds.forEach(postCache::invalidate);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void saveRepliesWithSequence(){
+        List<ReplyEntity> replies = new ArrayList<>(ROWS);
+        for(int i = 0; i < ROWS; i++){
+            replies.add(ReplyEntity.of("reply " + i, user, post));
+        }
+        bulkWriteService.saveReplies(replies);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void saveLikesWithIdentity(){
+        var target = postEntityRepository.save(PostEntity.of("benchmark", user));
+        List<IdentityLikeEntity> likes = new ArrayList<>(ROWS);
+        for(var liker : users){
+            likes.add(IdentityLikeEntity.of(liker, target));
+        }
+        var postIds = transactionTemplate.execute(status -> {
+            persistAll(likes);
+            var counts = countBy(likes, like -> like.getPost().getPostId());
+            counts.forEach(postEntityRepository::addLikesCount);
+            return counts.keySet();
+        });
+        postIds.forEach(postCache::invalidate);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void saveLikesWithSequence(){
+        var target = postEntityRepository.save(PostEntity.of("benchmark", user));
+        List<LikeEntity> likes = new ArrayList<>(ROWS);
+        for(var liker : users){
+            likes.add(LikeEntity.of(liker, target));
+        }
+        bulkWriteService.saveLikes(likes);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void saveFollowsWithIdentity(){
+        var following = userEntityRepository.save(newUser());
+        List<IdentityFollowEntity> follows = new ArrayList<>(ROWS);
+        for(var follower : users){
+            follows.add(IdentityFollowEntity.of(follower, following));
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            persistAll(follows);
+            countBy(follows, follow -> follow.getFollowing().getUserId())
+                    .forEach(userEntityRepository::addFollowersCount);
+            countBy(follows, follow -> follow.getFollower().getUserId())
+                    .forEach(userEntityRepository::addFollowingsCount);
+
+            var userIds = new HashSet<Long>();
+            follows.forEach(follow -> {
+                userIds.add(follow.getFollower().getUserId());
+                userIds.add(follow.getFollowing().getUserId());
+            });
+            var usersById = userEntityRepository.findAllById(userIds).stream()
+                    .collect(toMap(UserEntity::getUserId, Function.identity()));
+
+            follows.forEach(follow -> eventPublisher.publishEvent(new FollowCreatedEvent(
+                    usersById.get(follow.getFollower().getUserId()),
+                    usersById.get(follow.getFollowing().getUserId()))));
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void saveFollowsWithSequence(){
+        var following = userEntityRepository.save(newUser());
+        List<FollowEntity> follows = new ArrayList<>(ROWS);
+        for(var follower : users){
+            follows.add(FollowEntity.of(follower, following));
+        }
+        bulkWriteService.saveFollows(follows);
+    }
+
+    // BulkWriteService 와 같은 간격으로 flush/clear 한다.
+    private <T> void persistAll(List<T> entities){
+        for(int i = 0; i < entities.size(); i++){
+            entityManager.persist(entities.get(i));
+            if((i + 1) % batchSize == 0){
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static <T> TreeMap<Long, Long> countBy(List<T> entities, Function<T, Long> key){
+        return entities.stream().collect(groupingBy(key, TreeMap::new, counting()));
+    }
+
+    private static UserEntity newUser(){
+        return UserEntity.of("bench-" + UUID.randomUUID(), "password");
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.board.benchmark;
+
+import jakarta.persistence.*;
+import org.example.board.model.entity.UserEntity;
+
+import java.time.ZonedDateTime;
+
+// BulkInsertBenchmark 의 기준선. FollowEntity 와 같은 컬럼과 인덱스를 가지지만 기존처럼 IDENTITY 로 id 를 받는다.
+@Entity
+@Table(name = "follow_identity",
+indexes = {
+        @Index(name = "follow_identity_follower_following_idx",
+                columnList = "follower, following", unique = true),
+        @Index(name = "follow_identity_following_createddatetime_followid_idx",
+                columnList = "following, createddatetime, followid"),
+        @Index(name = "follow_identity_follower_createddatetime_followid_idx",
+                columnList = "follower, createddatetime, followid")}
+)
+public class IdentityFollowEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long followId;
+
+    @Column
+    private ZonedDateTime createdDateTime;
+
+    @ManyToOne
+    @JoinColumn(name = "follower")
+    private UserEntity follower;
+
+    @ManyToOne
+    @JoinColumn(name = "following")
+    private UserEntity following;
+
+    public UserEntity getFollower() {
+        return follower;
+    }
+
+    public UserEntity getFollowing() {
+        return following;
+    }
+
+    public static IdentityFollowEntity of(UserEntity follower, UserEntity following){
+        var follow = new IdentityFollowEntity();
+        follow.follower = follower;
+        follow.following = following;
+        return follow;
+    }
+
+    @PrePersist
+    private void prePersist(){
+        this.createdDateTime = ZonedDateTime.now();
+    }
+}
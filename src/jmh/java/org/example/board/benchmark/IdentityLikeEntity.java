@@ -0,0 +1,47 @@
+package org.example.board.benchmark;
+
+import jakarta.persistence.*;
+import org.example.board.model.entity.PostEntity;
+import org.example.board.model.entity.UserEntity;
+
+import java.time.ZonedDateTime;
+
+// BulkInsertBenchmark 의 기준선. LikeEntity 와 같은 컬럼과 인덱스를 가지지만 기존처럼 IDENTITY 로 id 를 받는다.
+@Entity
+@Table(name = "like_identity",
+indexes = {
+        @Index(name = "like_identity_userid_postid_idx", columnList = "userid, postid", unique = true),
+        @Index(name = "like_identity_postid_createddatetime_likeid_idx", columnList = "postid, createddatetime, likeid")})
+public class IdentityLikeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long likeId;
+
+    @Column
+    private ZonedDateTime createdDateTime;
+
+    @ManyToOne
+    @JoinColumn(name = "userId")
+    private UserEntity user;
+
+    @ManyToOne
+    @JoinColumn(name = "postId")
+    private PostEntity post;
+
+    public PostEntity getPost() {
+        return post;
+    }
+
+    public static IdentityLikeEntity of(UserEntity user, PostEntity post){
+        var like = new IdentityLikeEntity();
+        like.user = user;
+        like.post = post;
+        return like;
+    }
+
+    @PrePersist
+    private void prePersist(){
+        this.createdDateTime = ZonedDateTime.now();
+    }
+}
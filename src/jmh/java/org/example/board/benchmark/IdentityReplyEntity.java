@@ -0,0 +1,57 @@
+package org.example.board.benchmark;
+
+import jakarta.persistence.*;
+import org.example.board.model.entity.PostEntity;
+import org.example.board.model.entity.UserEntity;
+
+import java.time.ZonedDateTime;
+
+// BulkInsertBenchmark 의 기준선. ReplyEntity 와 같은 컬럼과 인덱스를 가지지만 기존처럼 IDENTITY 로 id 를 받는다.
+@Entity
+@Table(name = "reply_identity",
+        indexes = {@Index(name = "reply_identity_userid_createddatetime_replyid_idx", columnList = "userid, createddatetime, replyid"),
+                @Index(name = "reply_identity_postid_idx", columnList = "postid")})
+public class IdentityReplyEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long replyId;
+
+    @Column(columnDefinition = "TEXT")
+    private String body;
+
+    @Column
+    private ZonedDateTime createdDateTime;
+
+    @Column
+    private ZonedDateTime updatedDateTime;
+
+    @Column
+    private ZonedDateTime deletedDateTime;
+
+    @ManyToOne
+    @JoinColumn(name = "userId")
+    private UserEntity user;
+
+    @ManyToOne
+    @JoinColumn(name = "postId")
+    private PostEntity post;
+
+    public PostEntity getPost() {
+        return post;
+    }
+
+    public static IdentityReplyEntity of(String body, UserEntity user, PostEntity post){
+        var reply = new IdentityReplyEntity();
+        reply.body = body;
+        reply.user = user;
+        reply.post = post;
+        return reply;
+    }
+
+    @PrePersist
+    private void prePersist(){
+        this.createdDateTime = ZonedDateTime.now();
+        this.updatedDateTime = this.createdDateTime;
+    }
+}
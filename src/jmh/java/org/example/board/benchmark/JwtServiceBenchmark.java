@@ -0,0 +1,54 @@
+package org.example.board.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.board.model.entity.UserEntity;
+import org.example.board.model.user.UserPrincipal;
+import org.example.board.service.JwtService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// 같은 토큰이 반복해서 들어올 때의 parse/verify 처리량. cacheSize 0 은 매번 HMAC 검증과 JSON 파싱을 한다.
+// ./gradlew jmh -PjmhIncludes=JwtServiceBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class JwtServiceBenchmark {
+
+    // 동시에 활동 중인 사용자 수
+    private static final int TOKENS = 1000;
+
+    @Param({"0", "10000"})
+    private int cacheSize;
+
+    private JwtService jwtService;
+    private String[] tokens;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        jwtService = new JwtService(cacheSize, Duration.ofMinutes(5), new SimpleMeterRegistry());
+        tokens = new String[TOKENS];
+        for(int i = 0; i < TOKENS; i++){
+            var userEntity = UserEntity.of("bench-" + i, "password");
+            userEntity.setUserId((long) i + 1);
+            tokens[i] = jwtService.generateAccessToken(userEntity);
+        }
+    }
+
+    @Benchmark
+    public UserPrincipal getPrincipal(Cursor cursor){
+        var token = tokens[cursor.next];
+        cursor.next = (cursor.next + 1) % TOKENS;
+        return jwtService.getPrincipal(token);
+    }
+}
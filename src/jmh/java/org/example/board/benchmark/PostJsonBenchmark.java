@@ -0,0 +1,74 @@
+package org.example.board.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.board.cache.PostJsonCache;
+import org.example.board.model.post.Post;
+import org.example.board.model.user.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+// 같은 인기 게시물을 여러 사용자가 조회할 때, 매번 Jackson 으로 직렬화하는 것(ResponseEntity<Post>)과
+// PostJsonCache 로 캐시된 바이트에 isLiking 만 붙이는 것의 처리량 비교.
+// ./gradlew jmh -PjmhIncludes=PostJsonBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class PostJsonBenchmark {
+
+    // 조회하는 게시물 수 (모두 캐시에 들어간다)
+    private static final int POSTS = 100;
+
+    @Param({"200", "2000"})
+    private int bodyLength;
+
+    private ObjectMapper objectMapper;
+    private PostJsonCache postJsonCache;
+    private Post[] posts;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+        private boolean isLiking;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp(){
+        // MappingJackson2HttpMessageConverter 가 쓰는 것과 같은 설정의 ObjectMapper
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        postJsonCache = new PostJsonCache(10000, Duration.ofMinutes(5), objectMapper, new SimpleMeterRegistry());
+
+        var now = ZonedDateTime.now();
+        var body = "가".repeat(bodyLength);
+        posts = new Post[POSTS];
+        for(int i = 0; i < POSTS; i++){
+            var user = new User((long) i, "bench-" + i, null, "description", 1000L, 100L, now, now, null);
+            posts[i] = new Post((long) i, body, 10L, 100L, user, now, now, null, null);
+        }
+    }
+
+    @Benchmark
+    public byte[] jackson(Cursor cursor) throws Exception {
+        return objectMapper.writeValueAsBytes(next(cursor));
+    }
+
+    @Benchmark
+    public byte[] cached(Cursor cursor){
+        return postJsonCache.render(next(cursor));
+    }
+
+    private Post next(Cursor cursor){
+        var post = posts[cursor.next];
+        cursor.next = (cursor.next + 1) % POSTS;
+        cursor.isLiking = !cursor.isLiking;
+        return post.withIsLiking(cursor.isLiking);
+    }
+}
@@ -0,0 +1,169 @@
+package org.example.board.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.board.BoardApplication;
+import org.example.board.model.post.PostPostRequestBody;
+import org.example.board.model.user.UserLoginRequestBody;
+import org.example.board.model.user.UserSignUpRequestBody;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 플랫폼 스레드(Tomcat 기본 200개)와 virtual thread 모드의 처리량/지연시간(p99 는 SampleTime 결과)을 비교한다.
+// 클라이언트 스레드 수를 Tomcat 스레드 수보다 많게 잡아서 요청이 DB 를 기다리며 쌓이는 상황을 만든다.
+// 클라이언트 스레드가 서버와 CPU/GC 를 나눠 쓰지 않도록 서버는 별도 JVM 프로세스로 띄우고, 데이터도 HTTP 로 넣는다.
+// 벤치마크 사용자는 게시물이 있는 사용자들을 팔로우해서 /timeline 이 빈 페이지가 아니게 한다.
+// application.yml 의 로컬 Postgres(board-db)를 사용한다. ddl-auto 가 create-drop 이므로 전용 DB 에서 실행할 것.
+// 서버 로그는 build/thread-mode-server.log 에 남는다.
+// ./gradlew jmh -PjmhIncludes=ThreadModeBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(400)
+public class ThreadModeBenchmark {
+
+    private static final int FOLLOWINGS = 50;
+    private static final int POSTS_PER_FOLLOWING = 20;
+    private static final long STARTUP_TIMEOUT_MILLIS = 120_000;
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Process server;
+    private HttpClient httpClient;
+    private String baseUrl;
+    private String authorization;
+    private long[] postIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        int port;
+        try(var socket = new ServerSocket(0)){
+            port = socket.getLocalPort();
+        }
+        baseUrl = "http://localhost:" + port + "/api/v1";
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        var log = new File("build/thread-mode-server.log");
+        server = new ProcessBuilder(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                BoardApplication.class.getName(),
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--spring.jpa.show-sql=false",
+                "--board.rate-limit.enabled=false",
+                "--server.port=" + port)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(log))
+                .start();
+        awaitStarted();
+
+        authorization = signUp("bench-" + UUID.randomUUID());
+
+        postIds = new long[FOLLOWINGS * POSTS_PER_FOLLOWING];
+        var count = 0;
+        for(int i = 0; i < FOLLOWINGS; i++){
+            var following = "bench-" + UUID.randomUUID();
+            var followingAuthorization = signUp(following);
+            post("/users/" + following + "/follows", authorization, null);
+            for(int j = 0; j < POSTS_PER_FOLLOWING; j++){
+                var post = post("/posts", followingAuthorization, new PostPostRequestBody("benchmark " + count));
+                postIds[count++] = post.get("postId").asLong();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        server.destroy();
+        if(!server.waitFor(30, TimeUnit.SECONDS)){
+            server.destroyForcibly();
+        }
+    }
+
+    @Benchmark
+    public int getPosts() throws Exception {
+        return get("/posts?limit=20");
+    }
+
+    @Benchmark
+    public int getPost() throws Exception {
+        var postId = postIds[ThreadLocalRandom.current().nextInt(postIds.length)];
+        return get("/posts/" + postId);
+    }
+
+    @Benchmark
+    public int getTimeline() throws Exception {
+        return get("/timeline?limit=20");
+    }
+
+    // 인증 없이 보내서 401 이든 뭐든 응답이 오면 서버가 뜬 것이다.
+    private void awaitStarted() throws Exception {
+        var deadline = System.currentTimeMillis() + STARTUP_TIMEOUT_MILLIS;
+        var request = HttpRequest.newBuilder(URI.create(baseUrl + "/posts")).GET().build();
+        while(true){
+            if(!server.isAlive()){
+                throw new IllegalStateException("server exited with " + server.exitValue());
+            }
+            try {
+                httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                return;
+            } catch (ConnectException e) {
+                if(System.currentTimeMillis() > deadline){
+                    throw new IllegalStateException("server did not start within " + STARTUP_TIMEOUT_MILLIS + "ms", e);
+                }
+                Thread.sleep(500);
+            }
+        }
+    }
+
+    private String signUp(String username) throws IOException, InterruptedException {
+        post("/users", null, new UserSignUpRequestBody(username, "password"));
+        var response = post("/users/authenticate", null, new UserLoginRequestBody(username, "password"));
+        return "Bearer " + response.get("accessToken").asText();
+    }
+
+    private JsonNode post(String path, String authorization, Object body) throws IOException, InterruptedException {
+        var builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        if(authorization != null){
+            builder.header("Authorization", authorization);
+        }
+        var response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        if(response.statusCode() != 200){
+            throw new IllegalStateException(path + " returned " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private int get(String path) throws Exception {
+        var request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", authorization)
+                .GET()
+                .build();
+        var response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if(response.statusCode() != 200){
+            throw new IllegalStateException(path + " returned " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+}
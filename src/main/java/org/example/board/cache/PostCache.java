@@ -0,0 +1,63 @@
+package org.example.board.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.board.event.PostDeletedEvent;
+import org.example.board.event.PostUpdatedEvent;
+import org.example.board.event.ReplyCreatedEvent;
+import org.example.board.event.ReplyDeletedEvent;
+import org.example.board.model.entity.PostEntity;
+import org.example.board.model.post.Post;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// 사용자와 무관한 Post(isLiking == null)만 캐시한다. isLiking 은 조회 시점에 따로 채운다.
+// likesCount 는 저장된 값이며, 아직 반영되지 않은 delta 는 LikeCounterService 가 flush 후 무효화한다.
+@Component
+public class PostCache {
+
+    private final TtlCache<Long, Post> cache;
+
+    public PostCache(
+            @Value("${board.cache.post.maximum-size:10000}") int maximumSize,
+            @Value("${board.cache.post.ttl:30s}") Duration ttl,
+            MeterRegistry meterRegistry){
+        this.cache = new TtlCache<>(maximumSize, ttl);
+        TtlCacheMetrics.monitor(meterRegistry, cache, "post");
+    }
+
+    public Post get(Long postId, Function<Long, Post> loader){
+        return cache.get(postId, loader);
+    }
+
+    public void put(PostEntity postEntity){
+        cache.put(postEntity.getPostId(), Post.from(postEntity));
+    }
+
+    public void invalidate(Long postId){
+        cache.invalidate(postId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostUpdated(PostUpdatedEvent event){
+        put(event.postEntity());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event){
+        invalidate(event.postEntity().getPostId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReplyCreated(ReplyCreatedEvent event){
+        put(event.replyEntity().getPost());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReplyDeleted(ReplyDeletedEvent event){
+        put(event.replyEntity().getPost());
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.board.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.board.event.PostDeletedEvent;
+import org.example.board.event.PostUpdatedEvent;
+import org.example.board.model.post.Post;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+
+// isLiking 을 뺀 Post 의 JSON 을 미리 직렬화해 두고, 요청마다 isLiking 만 끝에 붙여서 돌려준다.
+// 렌더링할 때 쓴 Post 와 같이 저장해서 본문/카운터가 하나라도 바뀌었으면 다시 직렬화한다.
+@Component
+public class PostJsonCache {
+
+    private record Rendered(Post post, byte[] json) {}
+
+    private static final byte[] IS_LIKING_TRUE = ",\"isLiking\":true}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] IS_LIKING_FALSE = ",\"isLiking\":false}".getBytes(StandardCharsets.UTF_8);
+
+    private final TtlCache<Long, Rendered> cache;
+    private final ObjectWriter writer;
+
+    public PostJsonCache(
+            @Value("${board.cache.post-json.maximum-size:10000}") int maximumSize,
+            @Value("${board.cache.post-json.ttl:5m}") Duration ttl,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry){
+        this.cache = new TtlCache<>(maximumSize, ttl);
+        this.writer = objectMapper.writerFor(Post.class);
+        TtlCacheMetrics.monitor(meterRegistry, cache, "post-json");
+    }
+
+    // Post 를 Jackson 으로 직렬화한 것과 같은 바이트를 돌려준다.
+    public byte[] render(Post post){
+        var isLiking = post.isLiking();
+        var shared = isLiking == null ? post : post.withIsLiking(null);
+
+        var rendered = cache.get(post.postId());
+        if(rendered == null || !rendered.post().equals(shared)){
+            rendered = new Rendered(shared, serialize(shared));
+            cache.put(post.postId(), rendered);
+        }
+
+        if(isLiking == null){
+            return rendered.json();
+        }
+
+        // NON_NULL 이라 isLiking 이 빠진 JSON 은 '}' 로 끝나고, isLiking 은 Post 의 마지막 필드다.
+        var json = rendered.json();
+        var suffix = isLiking ? IS_LIKING_TRUE : IS_LIKING_FALSE;
+        var result = Arrays.copyOf(json, json.length - 1 + suffix.length);
+        System.arraycopy(suffix, 0, result, json.length - 1, suffix.length);
+        return result;
+    }
+
+    public void invalidate(Long postId){
+        cache.invalidate(postId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostUpdated(PostUpdatedEvent event){
+        invalidate(event.postEntity().getPostId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event){
+        invalidate(event.postEntity().getPostId());
+    }
+
+    private byte[] serialize(Post post){
+        try {
+            return writer.writeValueAsBytes(post);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize post " + post.postId(), e);
+        }
+    }
+}
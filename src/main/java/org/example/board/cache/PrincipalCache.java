@@ -0,0 +1,60 @@
+package org.example.board.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.board.event.FollowCreatedEvent;
+import org.example.board.event.FollowDeletedEvent;
+import org.example.board.event.UserTokensRevokedEvent;
+import org.example.board.event.UserUpdatedEvent;
+import org.example.board.model.entity.UserEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// 인증된 요청마다 "user" 를 조회하지 않도록 username 별 UserEntity 를 캐시한다.
+// 캐시된 엔티티는 영속성 컨텍스트 밖(detached)에 있으므로 수정하지 말고, 비교는 userId 로 한다.
+@Component
+public class PrincipalCache {
+
+    private final TtlCache<String, UserEntity> cache;
+
+    public PrincipalCache(
+            @Value("${board.cache.principal.maximum-size:10000}") int maximumSize,
+            @Value("${board.cache.principal.ttl:5m}") Duration ttl,
+            MeterRegistry meterRegistry){
+        this.cache = new TtlCache<>(maximumSize, ttl);
+        TtlCacheMetrics.monitor(meterRegistry, cache, "principal");
+    }
+
+    public UserEntity get(String username, Function<String, UserEntity> loader){
+        return cache.get(username, loader);
+    }
+
+    public void invalidate(String username){
+        cache.invalidate(username);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserUpdated(UserUpdatedEvent event){
+        invalidate(event.userEntity().getUsername());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserTokensRevoked(UserTokensRevokedEvent event){
+        invalidate(event.userEntity().getUsername());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFollowCreated(FollowCreatedEvent event){
+        invalidate(event.follower().getUsername());
+        invalidate(event.following().getUsername());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFollowDeleted(FollowDeletedEvent event){
+        invalidate(event.follower().getUsername());
+        invalidate(event.following().getUsername());
+    }
+}
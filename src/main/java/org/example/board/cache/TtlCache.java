@@ -0,0 +1,167 @@
+package org.example.board.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// 최대 크기(LRU)와 TTL 로 제한되는 in-process 캐시.
+public class TtlCache<K, V> {
+
+    // key 를 나눠 담는 generation 수. put/invalidate 때마다 해당 칸의 generation 을 올린다.
+    private static final int GENERATION_STRIPES = 64;
+
+    private record Entry<V>(V value, long expiresAt) {
+        boolean isExpired(long now){
+            return now - expiresAt >= 0;
+        }
+    }
+
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private final long[] generations = new long[GENERATION_STRIPES];
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder putCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public TtlCache(int maximumSize, Duration ttl){
+        if(maximumSize <= 0 || ttl.isNegative() || ttl.isZero()){
+            throw new IllegalArgumentException("maximumSize and ttl must be positive.");
+        }
+        this.maximumSize = maximumSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true){
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest){
+                if(size() > TtlCache.this.maximumSize){
+                    evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public V get(K key){
+        Entry<V> entry;
+        synchronized (entries){
+            entry = entries.get(key);
+            if(entry != null && entry.isExpired(System.nanoTime())){
+                entries.remove(key);
+                evictionCount.increment();
+                entry = null;
+            }
+        }
+
+        if(entry == null){
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return entry.value();
+    }
+
+    // loader 는 lock 밖에서 실행된다. null 이나 예외는 캐시하지 않는다.
+    // 읽는 동안 같은 key 가 put/invalidate 되었으면 loader 결과가 그보다 오래됐을 수 있으므로 저장하지 않는다.
+    public V get(K key, Function<? super K, ? extends V> loader){
+        return get(key, loader, value -> Duration.ofNanos(ttlNanos));
+    }
+
+    // 결과마다 TTL 을 따로 정한다. 캐시 TTL 보다 길면 캐시 TTL 을 쓰고, 0 이하면 돌려주기만 하고 저장하지 않는다.
+    public V get(K key, Function<? super K, ? extends V> loader, Function<? super V, Duration> ttl){
+        var value = get(key);
+        if(value != null){
+            return value;
+        }
+
+        long generation;
+        synchronized (entries){
+            generation = generations[stripe(key)];
+        }
+
+        value = loader.apply(key);
+        if(value != null){
+            var valueTtlNanos = Math.min(ttl.apply(value).toNanos(), ttlNanos);
+            if(valueTtlNanos <= 0){
+                return value;
+            }
+            var entry = new Entry<V>(value, System.nanoTime() + valueTtlNanos);
+            synchronized (entries){
+                if(generations[stripe(key)] != generation){
+                    return value;
+                }
+                entries.put(key, entry);
+            }
+            putCount.increment();
+        }
+        return value;
+    }
+
+    public void put(K key, V value){
+        put(key, value, ttlNanos);
+    }
+
+    // 값 자체에 만료 시각이 있으면 캐시 TTL 과 둘 중 짧은 쪽을 쓴다.
+    public void put(K key, V value, Duration ttl){
+        put(key, value, Math.min(ttl.toNanos(), ttlNanos));
+    }
+
+    private void put(K key, V value, long ttlNanos){
+        if(ttlNanos <= 0){
+            return;
+        }
+        var entry = new Entry<>(value, System.nanoTime() + ttlNanos);
+        synchronized (entries){
+            generations[stripe(key)]++;
+            entries.put(key, entry);
+        }
+        putCount.increment();
+    }
+
+    public void invalidate(K key){
+        synchronized (entries){
+            generations[stripe(key)]++;
+            entries.remove(key);
+        }
+    }
+
+    public void invalidateAll(){
+        synchronized (entries){
+            for(int i = 0; i < GENERATION_STRIPES; i++){
+                generations[i]++;
+            }
+            entries.clear();
+        }
+    }
+
+    private static int stripe(Object key){
+        var hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    public long size(){
+        synchronized (entries){
+            return entries.size();
+        }
+    }
+
+    public long hitCount(){
+        return hitCount.sum();
+    }
+
+    public long missCount(){
+        return missCount.sum();
+    }
+
+    public long putCount(){
+        return putCount.sum();
+    }
+
+    public long evictionCount(){
+        return evictionCount.sum();
+    }
+}
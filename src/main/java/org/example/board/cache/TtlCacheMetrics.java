@@ -0,0 +1,52 @@
+package org.example.board.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+import java.util.List;
+
+public class TtlCacheMetrics extends CacheMeterBinder<TtlCache<?, ?>> {
+
+    public TtlCacheMetrics(TtlCache<?, ?> cache, String cacheName, Iterable<Tag> tags){
+        super(cache, cacheName, tags);
+    }
+
+    public static void monitor(MeterRegistry registry, TtlCache<?, ?> cache, String cacheName){
+        new TtlCacheMetrics(cache, cacheName, List.of()).bindTo(registry);
+    }
+
+    @Override
+    protected Long size() {
+        var cache = getCache();
+        return cache == null ? null : cache.size();
+    }
+
+    @Override
+    protected long hitCount() {
+        var cache = getCache();
+        return cache == null ? 0L : cache.hitCount();
+    }
+
+    @Override
+    protected Long missCount() {
+        var cache = getCache();
+        return cache == null ? null : cache.missCount();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        var cache = getCache();
+        return cache == null ? null : cache.evictionCount();
+    }
+
+    @Override
+    protected long putCount() {
+        var cache = getCache();
+        return cache == null ? 0L : cache.putCount();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+    }
+}
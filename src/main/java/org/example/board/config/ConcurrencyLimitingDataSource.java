@@ -0,0 +1,81 @@
+package org.example.board.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 동시에 빌려 갈 수 있는 커넥션 수를 커넥션 풀 크기로 제한한다.
+// virtual thread 는 수천 개가 동시에 실행될 수 있으므로, 풀 앞의 공정한 세마포어에서 순서대로 기다리게 한다.
+public class ConcurrencyLimitingDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+
+    public ConcurrencyLimitingDataSource(DataSource dataSource, int maxConcurrency, Duration acquireTimeout){
+        super(dataSource);
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try{
+            return releasing(super.getConnection());
+        }catch (SQLException | RuntimeException e){
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try{
+            return releasing(super.getConnection(username, password));
+        }catch (SQLException | RuntimeException e){
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquire() throws SQLException {
+        try{
+            if(!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)){
+                throw new SQLTransientConnectionException(
+                        "Timed out waiting for a database connection permit.");
+            }
+        }catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection permit.", e);
+        }
+    }
+
+    // close() 가 여러 번 불려도 permit 은 한 번만 반납한다.
+    private Connection releasing(Connection connection){
+        var released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    try{
+                        return method.invoke(connection, args);
+                    }catch (InvocationTargetException e){
+                        throw e.getTargetException();
+                    }finally {
+                        if(method.getName().equals("close") && released.compareAndSet(false, true)){
+                            permits.release();
+                        }
+                    }
+                });
+    }
+}
@@ -5,9 +5,14 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.example.board.exception.jwt.JwtTokenNotFoundException;
+import org.example.board.exception.jwt.JwtTokenRevokedException;
+import org.example.board.model.entity.UserEntity;
+import org.example.board.model.user.UserPrincipal;
 import org.example.board.service.JwtService;
+import org.example.board.service.TokenRevocationService;
 import org.example.board.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -24,6 +29,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     @Autowired private JwtService jwtService;
     @Autowired private UserService userService;
+    @Autowired private TokenRevocationService tokenRevocationService;
+
+    // true 이면 토큰 claim 만으로 인증 주체를 만들고 "user" 를 조회하지 않는다.
+    @Value("${board.jwt.self-contained:false}")
+    private boolean selfContained;
+
     @Override
     protected void doFilterInternal(
             HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -36,8 +47,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if(!ObjectUtils.isEmpty(authorization) && authorization.startsWith(BEARER_PREFIX)
         && securityContext.getAuthentication() == null){
             var accessToken = authorization.substring(BEARER_PREFIX.length());
-            var username = jwtService.getUsername(accessToken);
-            var userDetails = userService.loadUserByUsername(username);
+            var principal = jwtService.getPrincipal(accessToken);
+            var userDetails = selfContained && principal.userId() != null
+                    ? authenticateSelfContained(principal)
+                    : authenticateWithUser(principal);
 
             var authenticationToken = new UsernamePasswordAuthenticationToken(
                     userDetails, null, userDetails.getAuthorities()
@@ -49,4 +62,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private UserDetails authenticateSelfContained(UserPrincipal principal){
+        if(!tokenRevocationService.isCurrent(principal.userId(), principal.tokenVersion())){
+            throw new JwtTokenRevokedException();
+        }
+        return principal;
+    }
+
+    private UserDetails authenticateWithUser(UserPrincipal principal){
+        var userEntity = (UserEntity) userService.loadUserByUsername(principal.getUsername());
+        if(principal.tokenVersion() != null && !principal.tokenVersion().equals(userEntity.getTokenVersion())){
+            throw new JwtTokenRevokedException();
+        }
+        return userEntity;
+    }
 }
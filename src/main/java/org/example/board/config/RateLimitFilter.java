@@ -0,0 +1,103 @@
+package org.example.board.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.board.ratelimit.RateLimitGroup;
+import org.example.board.ratelimit.RateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+// JwtAuthenticationFilter 다음에 실행된다. 인증된 요청은 username, 아니면 IP 별로 제한하고,
+// 로그인/가입(AUTH)은 계정을 바꿔가며 시도하지 못하도록 항상 IP 별로 제한한다.
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<RateLimitGroup, RateLimiter> limiters = new EnumMap<>(RateLimitGroup.class);
+    private final boolean enabled;
+    private final Duration idleTimeout;
+
+    public RateLimitFilter(
+            @Value("${board.rate-limit.enabled:true}") boolean enabled,
+            @Value("${board.rate-limit.idle-timeout:10m}") Duration idleTimeout,
+            @Value("${board.rate-limit.read.capacity:100}") int readCapacity,
+            @Value("${board.rate-limit.read.refill-per-second:50}") double readRefillPerSecond,
+            @Value("${board.rate-limit.write.capacity:20}") int writeCapacity,
+            @Value("${board.rate-limit.write.refill-per-second:5}") double writeRefillPerSecond,
+            @Value("${board.rate-limit.auth.capacity:5}") int authCapacity,
+            @Value("${board.rate-limit.auth.refill-per-second:0.2}") double authRefillPerSecond){
+        this.enabled = enabled;
+        this.idleTimeout = idleTimeout;
+        limiters.put(RateLimitGroup.READ, new RateLimiter(readCapacity, readRefillPerSecond));
+        limiters.put(RateLimitGroup.WRITE, new RateLimiter(writeCapacity, writeRefillPerSecond));
+        limiters.put(RateLimitGroup.AUTH, new RateLimiter(authCapacity, authRefillPerSecond));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if(!enabled){
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        var group = RateLimitGroup.of(HttpMethod.valueOf(request.getMethod()), request.getRequestURI());
+        var waitNanos = limiters.get(group).tryAcquire(getKey(group, request), System.nanoTime());
+        if(waitNanos > 0){
+            reject(response, waitNanos);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    @Scheduled(fixedDelayString = "${board.rate-limit.sweep-interval-ms:60000}")
+    public void evictIdleBuckets(){
+        var now = System.nanoTime();
+        limiters.values().forEach(limiter -> limiter.evictIdle(idleTimeout, now));
+    }
+
+    private String getKey(RateLimitGroup group, HttpServletRequest request){
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if(group != RateLimitGroup.AUTH
+                && authentication != null
+                && authentication.getPrincipal() instanceof UserDetails userDetails){
+            return "user:" + userDetails.getUsername();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        var retryAfterSeconds = RateLimiter.toRetryAfterSeconds(waitNanos);
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+
+        var errorMap = new HashMap<String, Object>();
+        errorMap.put("status", HttpStatus.TOO_MANY_REQUESTS);
+        errorMap.put("message", "Too many requests. Retry after " + retryAfterSeconds + " seconds.");
+
+        response.getWriter().write(objectMapper.writeValueAsString(errorMap));
+    }
+}
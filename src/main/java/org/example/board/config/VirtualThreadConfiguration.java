@@ -0,0 +1,33 @@
+package org.example.board.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// spring.threads.virtual.enabled=true 이면 Tomcat 요청 처리, applicationTaskExecutor(@Async, StreamingResponseBody),
+// 스케줄러가 virtual thread 로 실행된다. 이때 DB 접근은 커넥션 풀 크기만큼만 동시에 들어가도록 DataSource 를 감싼다.
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfiguration {
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${spring.datasource.hikari.connection-timeout:30000}") long connectionTimeoutMillis){
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if(!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitingDataSource){
+                    return bean;
+                }
+                return new ConcurrencyLimitingDataSource(
+                        dataSource, maximumPoolSize, Duration.ofMillis(connectionTimeoutMillis));
+            }
+        };
+    }
+}
@@ -21,6 +21,7 @@ public class WebConfiguration {
 
     @Autowired private JwtAuthenticationFilter jwtAuthenticationFilter;
     @Autowired private JwtExceptionFilter jwtExceptionFilter;
+    @Autowired private RateLimitFilter rateLimitFilter;
     @Bean
     public CorsConfigurationSource configurationSource(){
         CorsConfiguration configuration = new CorsConfiguration();
@@ -48,6 +49,7 @@ public class WebConfiguration {
                 .csrf(CsrfConfigurer::disable)
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(jwtExceptionFilter, jwtAuthenticationFilter.getClass())
+                .addFilterAfter(rateLimitFilter, jwtAuthenticationFilter.getClass())
                 .httpBasic(Customizer.withDefaults());
 
         return http.build();
@@ -0,0 +1,34 @@
+package org.example.board.controller;
+
+import org.example.board.service.ExportService;
+import org.example.board.service.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/v1/exports")
+public class ExportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportController.class);
+
+    @Autowired private ExportService exportService;
+    @Autowired private UserService userService;
+
+    @GetMapping("/posts")
+    public ResponseEntity<StreamingResponseBody> exportPosts(
+            @RequestParam(defaultValue = "0") Long afterPostId, Authentication authentication, WebRequest webRequest){
+        logger.info("GET /api/v1/exports/posts?afterPostId={}", afterPostId);
+        var body = exportService.exportPosts(
+                afterPostId, userService.getCurrentUser(authentication), webRequest);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
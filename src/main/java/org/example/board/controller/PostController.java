@@ -1,18 +1,25 @@
 package org.example.board.controller;
 
-import org.example.board.model.entity.UserEntity;
+import org.example.board.cache.PostJsonCache;
+import org.example.board.model.page.Cursor;
+import org.example.board.model.page.CursorPage;
 import org.example.board.model.post.Post;
 import org.example.board.model.post.PostPatchRequestBody;
 import org.example.board.model.post.PostPostRequestBody;
+import org.example.board.model.post.PostVersion;
 import org.example.board.model.user.LikedUser;
 import org.example.board.service.PostService;
 import org.example.board.service.UserService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,29 +29,90 @@ public class PostController {
 
     private static final Logger logger =LoggerFactory.getLogger(PostController.class);
 
+    // isLiking 처럼 사용자마다 다른 값이 있으므로 공유 캐시에는 두지 않고, 매번 ETag 로 재검증하게 한다.
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     @Autowired private PostService postService;
     @Autowired private UserService userService;
+    @Autowired private PostJsonCache postJsonCache;
 
     @GetMapping
-    public ResponseEntity<List<Post>> getPosts(Authentication authentication){
-        logger.info("GET /api/v1/posts");
-        var posts = postService.getPosts((UserEntity) authentication.getPrincipal());
+    public ResponseEntity<CursorPage<Post>> getPosts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication){
+        logger.info("GET /api/v1/posts?cursor={}&limit={}", cursor, limit);
+        var posts = postService.getPosts(
+                Cursor.parse(cursor),
+                CursorPage.normalizeLimit(limit),
+                userService.getCurrentUser(authentication));
+        return ResponseEntity.ok(posts);
+    }
+
+    @GetMapping(params = "legacy=true")
+    public ResponseEntity<List<Post>> getAllPosts(Authentication authentication){
+        logger.info("GET /api/v1/posts?legacy=true");
+        var posts = postService.getPosts(userService.getCurrentUser(authentication));
+        return ResponseEntity.ok(posts);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<Post>> searchPosts(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication){
+        logger.info("GET /api/v1/posts/search?q={}&page={}&size={}", q, page, size);
+        var posts = postService.searchPosts(
+                q, page, CursorPage.normalizeLimit(size), userService.getCurrentUser(authentication));
+        return ResponseEntity.ok(posts);
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<List<Post>> getTrendingPosts(
+            @RequestParam(defaultValue = "20") int limit, Authentication authentication){
+        logger.info("GET /api/v1/posts/trending?limit={}", limit);
+        var posts = postService.getTrendingPosts(
+                CursorPage.normalizeLimit(limit), userService.getCurrentUser(authentication));
         return ResponseEntity.ok(posts);
     }
 
     @GetMapping("/{postId}")
-    public ResponseEntity<Post> getPostByPostId(
-            @PathVariable Long postId, Authentication authentication){
+    public ResponseEntity<byte[]> getPostByPostId(
+            @PathVariable Long postId, Authentication authentication, WebRequest webRequest){
         logger.info("GET /api/v1/posts/{}", postId);
-        var post = postService.getPostByPostId(postId, (UserEntity)authentication.getPrincipal());
-        return ResponseEntity.ok(post);
+        var currentUser = userService.getCurrentUser(authentication);
+        // ETag 는 캐시된 게시물로 만든 응답 그대로에서 계산하므로 캐시가 살아 있으면 게시물을 다시 읽지 않는다.
+        var post = postService.getPostByPostId(postId, currentUser);
+        if(webRequest.checkNotModified(PostVersion.from(post).eTag())){
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(postJsonCache.render(post));
     }
 
     @GetMapping("/{postId}/liked-users")
-    public ResponseEntity<List<LikedUser>> getLikedUsersByPostId(
+    public ResponseEntity<CursorPage<LikedUser>> getLikedUsersByPostId(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication){
+        var likedUsers = userService.getLikedUsersByPostId(
+                postId,
+                Cursor.parse(cursor),
+                CursorPage.normalizeLimit(limit),
+                userService.getCurrentUser(authentication));
+        return ResponseEntity.ok(likedUsers);
+    }
+
+    @GetMapping(value = "/{postId}/liked-users", params = "legacy=true")
+    public ResponseEntity<List<LikedUser>> getAllLikedUsersByPostId(
             @PathVariable Long postId, Authentication authentication){
         var likedUsers = userService
-                .getLikedUsersByPostId(postId, (UserEntity) authentication.getPrincipal());
+                .getLikedUsersByPostId(postId, userService.getCurrentUser(authentication));
 
         return ResponseEntity.ok(likedUsers);
     }
@@ -53,7 +121,7 @@ public class PostController {
     public ResponseEntity<Post> createPost(
             @RequestBody PostPostRequestBody postPostRequestBody, Authentication authentication){
         logger.info("POST /api/v1/posts");
-        var post = postService.createPost(postPostRequestBody, (UserEntity)authentication.getPrincipal());
+        var post = postService.createPost(postPostRequestBody, userService.getCurrentUser(authentication));
         return ResponseEntity.ok(post);
     }
 
@@ -63,7 +131,7 @@ public class PostController {
             @RequestBody PostPatchRequestBody postPatchRequestBody,
             Authentication authentication){
         logger.info("PATCH /api/v1/posts/{}", postId);
-        var post = postService.updatePost(postId, postPatchRequestBody, (UserEntity)authentication.getPrincipal());
+        var post = postService.updatePost(postId, postPatchRequestBody, userService.getCurrentUser(authentication));
         return ResponseEntity.ok(post);
     }
 
@@ -71,14 +139,14 @@ public class PostController {
     public ResponseEntity<Void> deletePost(
             @PathVariable Long postId, Authentication authentication){
         logger.info("DELETE /api/v1/posts/{}", postId);
-        postService.deletePost(postId, (UserEntity)authentication.getPrincipal());
+        postService.deletePost(postId, userService.getCurrentUser(authentication));
         return ResponseEntity.noContent().build();
     }
 
     @PostMapping("/{postId}/likes")
     public ResponseEntity<Post> toggleLike(
             @PathVariable Long postId, Authentication authentication){
-        var post = postService.toggleLike(postId, (UserEntity)authentication.getPrincipal());
+        var post = postService.toggleLike(postId, userService.getCurrentUser(authentication));
         return ResponseEntity.ok(post);
     }
 }
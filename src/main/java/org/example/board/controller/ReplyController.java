@@ -1,6 +1,5 @@
 package org.example.board.controller;
 
-import org.example.board.model.entity.UserEntity;
 import org.example.board.model.post.Post;
 import org.example.board.model.post.PostPatchRequestBody;
 import org.example.board.model.post.PostPostRequestBody;
@@ -9,6 +8,7 @@ import org.example.board.model.reply.ReplyPatchRequestBody;
 import org.example.board.model.reply.ReplyPostRequestBody;
 import org.example.board.service.PostService;
 import org.example.board.service.ReplyService;
+import org.example.board.service.UserService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,6 +23,7 @@ import java.util.List;
 public class ReplyController {
 
     @Autowired private ReplyService replyService;
+    @Autowired private UserService userService;
 
     @GetMapping
     public ResponseEntity<List<Reply>> getRepliesByPostId(@PathVariable Long postId){
@@ -35,7 +36,7 @@ public class ReplyController {
             @PathVariable Long postId,
             @RequestBody ReplyPostRequestBody replyPostRequestBody,
             Authentication authentication){
-        var reply = replyService.createReply(postId, replyPostRequestBody, (UserEntity)authentication.getPrincipal());
+        var reply = replyService.createReply(postId, replyPostRequestBody, userService.getCurrentUser(authentication));
         return ResponseEntity.ok(reply);
     }
 
@@ -45,7 +46,7 @@ public class ReplyController {
             @PathVariable Long replyId,
             @RequestBody ReplyPatchRequestBody replyPatchRequestBody,
             Authentication authentication){
-        var reply = replyService.updateReply(postId, replyId, replyPatchRequestBody, (UserEntity)authentication.getPrincipal());
+        var reply = replyService.updateReply(postId, replyId, replyPatchRequestBody, userService.getCurrentUser(authentication));
         return ResponseEntity.ok(reply);
     }
 
@@ -54,7 +55,7 @@ public class ReplyController {
             @PathVariable Long postId,
             @PathVariable Long replyId,
             Authentication authentication){
-        replyService.deleteReply(postId, replyId, (UserEntity)authentication.getPrincipal());
+        replyService.deleteReply(postId, replyId, userService.getCurrentUser(authentication));
         return ResponseEntity.noContent().build();
     }
 
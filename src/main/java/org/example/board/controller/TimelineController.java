@@ -0,0 +1,36 @@
+package org.example.board.controller;
+
+import org.example.board.model.page.Cursor;
+import org.example.board.model.page.CursorPage;
+import org.example.board.model.post.Post;
+import org.example.board.service.TimelineService;
+import org.example.board.service.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/timeline")
+public class TimelineController {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimelineController.class);
+
+    @Autowired private TimelineService timelineService;
+    @Autowired private UserService userService;
+
+    @GetMapping
+    public ResponseEntity<CursorPage<Post>> getTimeline(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication){
+        logger.info("GET /api/v1/timeline?cursor={}&limit={}", cursor, limit);
+        var timeline = timelineService.getTimeline(
+                Cursor.parse(cursor),
+                CursorPage.normalizeLimit(limit),
+                userService.getCurrentUser(authentication));
+        return ResponseEntity.ok(timeline);
+    }
+}
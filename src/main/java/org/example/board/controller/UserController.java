@@ -1,17 +1,22 @@
 package org.example.board.controller;
 
 import jakarta.validation.Valid;
-import org.example.board.model.entity.UserEntity;
+import org.example.board.model.page.Cursor;
+import org.example.board.model.page.CursorPage;
 import org.example.board.model.post.Post;
 import org.example.board.model.reply.Reply;
 import org.example.board.model.user.*;
 import org.example.board.service.PostService;
+import org.example.board.service.ProfileService;
 import org.example.board.service.ReplyService;
 import org.example.board.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -20,22 +25,79 @@ import static org.apache.coyote.http11.Constants.a;
 @RestController
 @RequestMapping("/api/v1/users")
 public class UserController {
+    // isFollowing 이 조회하는 사용자마다 다르므로 브라우저에만 두고 항상 재검증한다.
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     @Autowired UserService userService;
     @Autowired PostService postService;
     @Autowired ReplyService replyService;
+    @Autowired ProfileService profileService;
 
     @GetMapping
-    public ResponseEntity<List<User>> getUsers(
-            @RequestParam(required = false) String query, Authentication authentication){
-        var users = userService.getUsers(query, (UserEntity)authentication.getPrincipal());
+    public ResponseEntity<CursorPage<User>> getUsers(
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication){
+        var users = userService.getUsers(
+                query,
+                Cursor.parse(cursor),
+                CursorPage.normalizeLimit(limit),
+                userService.getCurrentUser(authentication));
+        return ResponseEntity.ok(users);
+    }
+
+    @GetMapping(params = "legacy=true")
+    public ResponseEntity<List<User>> getAllUsers(Authentication authentication){
+        var users = userService.getUsers(userService.getCurrentUser(authentication));
         return ResponseEntity.ok(users);
     }
 
     @GetMapping("/{username}")
     public ResponseEntity<User> getUser(
+            @PathVariable String username, Authentication authentication, WebRequest webRequest){
+        var user = userService.getUser(username, userService.getCurrentUser(authentication));
+        if(webRequest.checkNotModified(UserVersion.from(user).eTag())){
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(user);
+    }
+
+    @GetMapping("/{username}/profile")
+    public ResponseEntity<Profile> getProfile(
+            @PathVariable String username,
+            @RequestParam(defaultValue = "10") int size,
+            Authentication authentication){
+        var profile = profileService.getProfile(
+                username, CursorPage.normalizeLimit(size), userService.getCurrentUser(authentication));
+        return ResponseEntity.ok(profile);
+    }
+
+    @GetMapping("/{username}/relationship")
+    public ResponseEntity<Relationship> getRelationship(
             @PathVariable String username, Authentication authentication){
-        var user = userService.getUser(username, (UserEntity)authentication.getPrincipal());
-        return ResponseEntity.ok(user);
+        var relationship = userService.getRelationship(username, userService.getCurrentUser(authentication));
+        return ResponseEntity.ok(relationship);
+    }
+
+    @GetMapping("/{username}/known-followers")
+    public ResponseEntity<List<User>> getKnownFollowersByUser(
+            @PathVariable String username,
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication){
+        var knownFollowers = userService.getKnownFollowersByUsername(
+                username, CursorPage.normalizeLimit(limit), userService.getCurrentUser(authentication));
+        return ResponseEntity.ok(knownFollowers);
+    }
+
+    @GetMapping("/{username}/suggestions")
+    public ResponseEntity<List<SuggestedUser>> getSuggestionsByUser(
+            @PathVariable String username,
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication){
+        var suggestions = userService.getSuggestionsByUsername(
+                username, CursorPage.normalizeLimit(limit), userService.getCurrentUser(authentication));
+        return ResponseEntity.ok(suggestions);
     }
 
     @PatchMapping("/{username}")
@@ -43,7 +105,7 @@ public class UserController {
             @PathVariable String username,
             @RequestBody UserPatchRequestBody requestBody,
             Authentication authentication){
-        var user = userService.updateUser(username, requestBody, (UserEntity)authentication.getPrincipal() );
+        var user = userService.updateUser(username, requestBody, userService.getCurrentUser(authentication) );
         return ResponseEntity.ok(user);
     }
 
@@ -51,35 +113,63 @@ public class UserController {
     @GetMapping("/{username}/posts")
     public ResponseEntity<List<Post>> getPostByUsername(
             @PathVariable String username, Authentication authentication){
-        var posts = postService.getPostByUsername(username, (UserEntity)authentication.getPrincipal());
+        var posts = postService.getPostByUsername(username, userService.getCurrentUser(authentication));
         return ResponseEntity.ok(posts);
     }
 
     @PostMapping("/{username}/follows")
     public ResponseEntity<User> follow(
             @PathVariable String username, Authentication authentication){
-        var user = userService.follow(username, (UserEntity)authentication.getPrincipal());
+        var user = userService.follow(username, userService.getCurrentUser(authentication));
         return ResponseEntity.ok(user);
     }
 
     @DeleteMapping("/{username}/follows")
     public ResponseEntity<User> unfollow(
             @PathVariable String username, Authentication authentication){
-        var user = userService.unFollow(username, (UserEntity)authentication.getPrincipal());
+        var user = userService.unFollow(username, userService.getCurrentUser(authentication));
         return ResponseEntity.ok(user);
     }
 
     @GetMapping("/{username}/followers")
-    public ResponseEntity<List<Followers>> getFollowersByUser(
+    public ResponseEntity<CursorPage<Followers>> getFollowersByUser(
+            @PathVariable String username,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication){
+        var followers = userService.getFollowersByUsername(
+                username,
+                Cursor.parse(cursor),
+                CursorPage.normalizeLimit(limit),
+                userService.getCurrentUser(authentication));
+        return ResponseEntity.ok(followers);
+    }
+
+    @GetMapping(value = "/{username}/followers", params = "legacy=true")
+    public ResponseEntity<List<Followers>> getAllFollowersByUser(
             @PathVariable String username, Authentication authentication){
-        var followers = userService.getFollowersByUsername(username, (UserEntity)authentication.getPrincipal());
+        var followers = userService.getFollowersByUsername(username, userService.getCurrentUser(authentication));
         return ResponseEntity.ok(followers);
     }
 
     @GetMapping("/{username}/followings")
-    public ResponseEntity<List<User>> getFollowingsByUser(
+    public ResponseEntity<CursorPage<User>> getFollowingsByUser(
+            @PathVariable String username,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication){
+        var followings = userService.getFollowingsByUsername(
+                username,
+                Cursor.parse(cursor),
+                CursorPage.normalizeLimit(limit),
+                userService.getCurrentUser(authentication));
+        return ResponseEntity.ok(followings);
+    }
+
+    @GetMapping(value = "/{username}/followings", params = "legacy=true")
+    public ResponseEntity<List<User>> getAllFollowingsByUser(
             @PathVariable String username, Authentication authentication){
-        var followings = userService.getFollowingsByUsername(username, (UserEntity)authentication.getPrincipal());
+        var followings = userService.getFollowingsByUsername(username, userService.getCurrentUser(authentication));
         return ResponseEntity.ok(followings);
     }
 
@@ -91,9 +181,23 @@ public class UserController {
     }
 
     @GetMapping("/{username}/liked-users")
-    public ResponseEntity<List<LikedUser>> getLikedUsersByUser(
+    public ResponseEntity<CursorPage<LikedUser>> getLikedUsersByUser(
+            @PathVariable String username,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication){
+        var likedUsers = userService.getLikedUsersByUser(
+                username,
+                Cursor.parse(cursor),
+                CursorPage.normalizeLimit(limit),
+                userService.getCurrentUser(authentication));
+        return ResponseEntity.ok(likedUsers);
+    }
+
+    @GetMapping(value = "/{username}/liked-users", params = "legacy=true")
+    public ResponseEntity<List<LikedUser>> getAllLikedUsersByUser(
             @PathVariable String username, Authentication authentication){
-        var likedUsers = userService.getLikedUsersByUser(username, (UserEntity)authentication.getPrincipal());
+        var likedUsers = userService.getLikedUsersByUser(username, userService.getCurrentUser(authentication));
         return ResponseEntity.ok(likedUsers);
     }
 
@@ -105,6 +209,12 @@ public class UserController {
         return ResponseEntity.ok(user);
     }
 
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(Authentication authentication){
+        userService.logout(userService.getCurrentUser(authentication));
+        return ResponseEntity.noContent().build();
+    }
+
     @PostMapping("/authenticate")
     public ResponseEntity<UserAuthenticationResponse> authenticate(
             @Valid @RequestBody UserLoginRequestBody userLoginRequestBody){
@@ -0,0 +1,8 @@
+package org.example.board.event;
+
+import org.example.board.model.entity.UserEntity;
+
+import java.time.ZonedDateTime;
+
+// createdDateTime 은 추가되거나 삭제된 좋아요가 만들어진 시각이다.
+public record LikeToggledEvent(Long postId, UserEntity user, boolean liked, ZonedDateTime createdDateTime) { }
@@ -0,0 +1,5 @@
+package org.example.board.event;
+
+import org.example.board.model.entity.PostEntity;
+
+public record PostUpdatedEvent(PostEntity postEntity) { }
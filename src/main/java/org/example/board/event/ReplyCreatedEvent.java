@@ -0,0 +1,5 @@
+package org.example.board.event;
+
+import org.example.board.model.entity.ReplyEntity;
+
+public record ReplyCreatedEvent(ReplyEntity replyEntity) { }
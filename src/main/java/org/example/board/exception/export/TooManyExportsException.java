@@ -0,0 +1,11 @@
+package org.example.board.exception.export;
+
+import org.example.board.exception.ClientErrorException;
+import org.springframework.http.HttpStatus;
+
+public class TooManyExportsException extends ClientErrorException {
+
+    public TooManyExportsException(){
+        super(HttpStatus.TOO_MANY_REQUESTS, "Too many exports in progress. Please try again later.");
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.board.exception.jwt;
+
+import io.jsonwebtoken.JwtException;
+
+public class JwtTokenRevokedException extends JwtException {
+    public JwtTokenRevokedException(){
+        super("JWT has been revoked.");
+    }
+}
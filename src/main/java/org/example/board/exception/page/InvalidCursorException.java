@@ -0,0 +1,15 @@
+package org.example.board.exception.page;
+
+import org.example.board.exception.ClientErrorException;
+import org.springframework.http.HttpStatus;
+
+public class InvalidCursorException extends ClientErrorException {
+
+    public InvalidCursorException(){
+        super(HttpStatus.BAD_REQUEST, "Invalid cursor.");
+    }
+
+    public InvalidCursorException(String cursor){
+        super(HttpStatus.BAD_REQUEST, "Cursor " + cursor + " is invalid.");
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.board.exception.user;
+
+import org.example.board.exception.ClientErrorException;
+import org.springframework.http.HttpStatus;
+
+public class PasswordHashingUnavailableException extends ClientErrorException {
+
+    public PasswordHashingUnavailableException(){
+        super(HttpStatus.SERVICE_UNAVAILABLE, "Too many authentication requests. Please try again later.");
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.board.exception.user;
+
+import org.example.board.exception.ClientErrorException;
+import org.springframework.http.HttpStatus;
+
+public class ProfileUnavailableException extends ClientErrorException {
+
+    public ProfileUnavailableException(){
+        super(HttpStatus.SERVICE_UNAVAILABLE, "Too many profile requests. Please try again later.");
+    }
+}
@@ -0,0 +1,282 @@
+package org.example.board.graph;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+// 팔로우 관계를 사용자별 정렬된 long[] 인접 배열로 양방향(팔로잉/팔로워) 보관한다.
+// 간선 하나당 8 byte * 2, 사용자(방향)당 맵 엔트리와 배열 헤더 정도의 고정 비용만 든다.
+public class FollowGraph {
+
+    private static final long[] EMPTY = new long[0];
+
+    // HashMap 엔트리, Long 키, Adjacency 객체, 배열 헤더의 대략적인 크기
+    private static final long BYTES_PER_ADJACENCY = 32 + 16 + 24 + 16;
+
+    private static final class Adjacency {
+        private long[] ids = EMPTY;
+        private int size;
+
+        private boolean insert(long id){
+            var index = Arrays.binarySearch(ids, 0, size, id);
+            if(index >= 0){
+                return false;
+            }
+            var insertAt = -(index + 1);
+            ensureCapacity();
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+            return true;
+        }
+
+        private boolean delete(long id){
+            var index = Arrays.binarySearch(ids, 0, size, id);
+            if(index < 0){
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        private boolean contains(long id){
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        private void append(long id){
+            ensureCapacity();
+            ids[size++] = id;
+        }
+
+        // 정렬 후 중복을 제거하고 남는 용량을 줄인다.
+        private int seal(){
+            Arrays.sort(ids, 0, size);
+            var distinct = 0;
+            for(int i = 0; i < size; i++){
+                if(distinct == 0 || ids[distinct - 1] != ids[i]){
+                    ids[distinct++] = ids[i];
+                }
+            }
+            size = distinct;
+            ids = Arrays.copyOf(ids, size);
+            return size;
+        }
+
+        private void ensureCapacity(){
+            if(size == ids.length){
+                ids = Arrays.copyOf(ids, Math.max(4, size + (size >> 1)));
+            }
+        }
+    }
+
+    private final Map<Long, Adjacency> followings = new HashMap<>();
+    private final Map<Long, Adjacency> followers = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private long edgeCount;
+
+    // 초기 적재용. 정렬하지 않고 덧붙인 뒤 seal() 에서 한 번에 정렬한다.
+    public void append(long followerId, long followingId){
+        lock.writeLock().lock();
+        try{
+            followings.computeIfAbsent(followerId, key -> new Adjacency()).append(followingId);
+            followers.computeIfAbsent(followingId, key -> new Adjacency()).append(followerId);
+        }finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void seal(){
+        lock.writeLock().lock();
+        try{
+            var edges = 0L;
+            for(var adjacency : followings.values()){
+                edges += adjacency.seal();
+            }
+            for(var adjacency : followers.values()){
+                adjacency.seal();
+            }
+            edgeCount = edges;
+        }finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void follow(long followerId, long followingId){
+        lock.writeLock().lock();
+        try{
+            if(followings.computeIfAbsent(followerId, key -> new Adjacency()).insert(followingId)){
+                followers.computeIfAbsent(followingId, key -> new Adjacency()).insert(followerId);
+                edgeCount++;
+            }
+        }finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void unfollow(long followerId, long followingId){
+        lock.writeLock().lock();
+        try{
+            var adjacency = followings.get(followerId);
+            if(adjacency != null && adjacency.delete(followingId)){
+                followers.get(followingId).delete(followerId);
+                edgeCount--;
+            }
+        }finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isFollowing(long followerId, long followingId){
+        lock.readLock().lock();
+        try{
+            var adjacency = followings.get(followerId);
+            return adjacency != null && adjacency.contains(followingId);
+        }finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long[] getFollowings(long userId){
+        return copy(followings, userId);
+    }
+
+    // consumer 가 false 를 돌려주면 순회를 멈추고 false 를 돌려준다.
+    public boolean forEachFollowing(long userId, LongPredicate consumer){
+        lock.readLock().lock();
+        try{
+            var adjacency = followings.get(userId);
+            if(adjacency != null){
+                for(int i = 0; i < adjacency.size; i++){
+                    if(!consumer.test(adjacency.ids[i])){
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // viewer 가 팔로우하는 사용자 중 target 을 팔로우하는 사용자
+    public long[] getKnownFollowers(long viewerId, long targetId, int limit){
+        lock.readLock().lock();
+        try{
+            return intersect(followings.get(viewerId), followers.get(targetId), limit);
+        }finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int countCommonFollowers(long userId, long otherUserId){
+        lock.readLock().lock();
+        try{
+            return intersect(followers.get(userId), followers.get(otherUserId), Integer.MAX_VALUE).length;
+        }finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getUserCount(){
+        lock.readLock().lock();
+        try{
+            var userIds = new HashSet<Long>(followings.keySet());
+            userIds.addAll(followers.keySet());
+            return userIds.size();
+        }finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getEdgeCount(){
+        lock.readLock().lock();
+        try{
+            return edgeCount;
+        }finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long estimateBytes(){
+        lock.readLock().lock();
+        try{
+            var bytes = (long) (followings.size() + followers.size()) * BYTES_PER_ADJACENCY;
+            for(var adjacency : followings.values()){
+                bytes += (long) adjacency.ids.length * Long.BYTES;
+            }
+            for(var adjacency : followers.values()){
+                bytes += (long) adjacency.ids.length * Long.BYTES;
+            }
+            return bytes;
+        }finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long[] copy(Map<Long, Adjacency> adjacencies, long userId){
+        lock.readLock().lock();
+        try{
+            var adjacency = adjacencies.get(userId);
+            return adjacency == null ? EMPTY : Arrays.copyOf(adjacency.ids, adjacency.size);
+        }finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 크기 차이가 크면 작은 쪽을 기준으로 큰 쪽을 galloping 탐색하고, 비슷하면 선형 병합한다.
+    private static long[] intersect(Adjacency a, Adjacency b, int limit){
+        if(a == null || b == null || a.size == 0 || b.size == 0 || limit <= 0){
+            return EMPTY;
+        }
+        if(a.size > b.size){
+            var swap = a;
+            a = b;
+            b = swap;
+        }
+
+        var result = new long[Math.min(a.size, limit)];
+        var count = 0;
+
+        if((long) a.size * 32 < b.size){
+            var from = 0;
+            for(int i = 0; i < a.size && count < result.length; i++){
+                var found = gallop(b.ids, from, b.size, a.ids[i]);
+                if(found >= 0){
+                    result[count++] = a.ids[i];
+                    from = found + 1;
+                }else{
+                    from = -(found + 1);
+                }
+                if(from >= b.size){
+                    break;
+                }
+            }
+        }else{
+            int i = 0, j = 0;
+            while(i < a.size && j < b.size && count < result.length){
+                if(a.ids[i] < b.ids[j]){
+                    i++;
+                }else if(a.ids[i] > b.ids[j]){
+                    j++;
+                }else{
+                    result[count++] = a.ids[i];
+                    i++;
+                    j++;
+                }
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    private static int gallop(long[] ids, int from, int to, long key){
+        var bound = 1;
+        while(from + bound < to && ids[from + bound] < key){
+            bound <<= 1;
+        }
+        return Arrays.binarySearch(ids, from + (bound >> 1), Math.min(from + bound + 1, to), key);
+    }
+}
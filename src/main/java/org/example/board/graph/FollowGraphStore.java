@@ -0,0 +1,71 @@
+package org.example.board.graph;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.board.event.FollowCreatedEvent;
+import org.example.board.event.FollowDeletedEvent;
+import org.example.board.repository.FollowEntityRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 기동 시 follow 테이블 전체를 FollowGraph 로 적재하고, 이후에는 커밋된 팔로우 이벤트로 갱신한다.
+@Component
+public class FollowGraphStore implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(FollowGraphStore.class);
+
+    private final FollowGraph graph = new FollowGraph();
+
+    @Autowired private FollowEntityRepository followEntityRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    public FollowGraphStore(MeterRegistry meterRegistry){
+        Gauge.builder("follow.graph.edges", graph, FollowGraph::getEdgeCount).register(meterRegistry);
+        Gauge.builder("follow.graph.memory", graph, FollowGraph::estimateBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    // 웹 서버가 요청을 받기 전에 적재한다. 적재 중(seal 전)에는 인접 배열이 정렬돼 있지 않아서
+    // 그 사이에 들어온 팔로우 이벤트나 조회가 잘못된 결과를 만들 수 있다.
+    @Override
+    public void afterSingletonsInstantiated(){
+        load();
+    }
+
+    public void load(){
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        var startedAt = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            try(var edges = followEntityRepository.streamEdges()){
+                edges.forEach(edge -> graph.append(edge.followerId(), edge.followingId()));
+            }
+        });
+        graph.seal();
+        logger.info("Follow graph loaded: {} users, {} edges, ~{} bytes in {} ms",
+                graph.getUserCount(), graph.getEdgeCount(), graph.estimateBytes(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    public FollowGraph getGraph(){
+        return graph;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFollowCreated(FollowCreatedEvent event){
+        graph.follow(event.follower().getUserId(), event.following().getUserId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFollowDeleted(FollowDeletedEvent event){
+        graph.unfollow(event.follower().getUserId(), event.following().getUserId());
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.board.graph;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.example.board.cache.TtlCache;
+import org.example.board.cache.TtlCacheMetrics;
+import org.example.board.event.FollowCreatedEvent;
+import org.example.board.event.FollowDeletedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+// 친구의 친구 추천. 내가 팔로우하는 사용자들이 팔로우하는 사용자를 전용 ForkJoinPool 에서 병렬로 세고,
+// 이미 팔로우 중인 사용자와 나 자신을 뺀 뒤 겹치는 수가 많은 순서로 돌려준다.
+@Component
+public class FollowSuggester {
+
+    public static final int MAX_SUGGESTIONS = 100;
+
+    private final ForkJoinPool pool;
+    private final long timeBudgetNanos;
+    private final Duration ttl;
+    private final Duration partialTtl;
+    private final TtlCache<Long, Suggestions> cache;
+
+    @Autowired private FollowGraphStore followGraphStore;
+
+    public FollowSuggester(
+            @Value("${board.suggestion.parallelism:0}") int parallelism,
+            @Value("${board.suggestion.time-budget:200ms}") Duration timeBudget,
+            @Value("${board.suggestion.cache.maximum-size:10000}") int maximumSize,
+            @Value("${board.suggestion.cache.ttl:5m}") Duration ttl,
+            @Value("${board.suggestion.cache.partial-ttl:10s}") Duration partialTtl,
+            MeterRegistry meterRegistry){
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.timeBudgetNanos = timeBudget.toNanos();
+        this.ttl = ttl;
+        this.partialTtl = partialTtl;
+        this.cache = new TtlCache<>(maximumSize, ttl);
+        TtlCacheMetrics.monitor(meterRegistry, cache, "suggestion");
+    }
+
+    public Suggestions suggest(long userId){
+        return cache.get(userId, this::compute, this::ttlOf);
+    }
+
+    // 빈 결과는 팔로우가 생기면 바로 달라지고, 중간에 멈춘 결과는 다음에 더 많이 셀 수 있으므로 오래 두지 않는다.
+    private Duration ttlOf(Suggestions suggestions){
+        if(suggestions.userIds().length == 0){
+            return Duration.ZERO;
+        }
+        return suggestions.partial() ? partialTtl : ttl;
+    }
+
+    private Suggestions compute(long userId){
+        var graph = followGraphStore.getGraph();
+        var firstHop = graph.getFollowings(userId);
+        if(firstHop.length == 0){
+            return new Suggestions(new long[0], new int[0], false);
+        }
+
+        // 풀이 붐벼서 늦게 시작한 작업도 deadline 이 지나면 바로 끝난다.
+        var deadlineNanos = System.nanoTime() + timeBudgetNanos;
+        var counter = pool.invoke(new TwoHopTask(graph, firstHop, 0, firstHop.length, deadlineNanos));
+
+        return counter.top(
+                MAX_SUGGESTIONS,
+                candidate -> candidate == userId || Arrays.binarySearch(firstHop, candidate) >= 0);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFollowCreated(FollowCreatedEvent event){
+        cache.invalidate(event.follower().getUserId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFollowDeleted(FollowDeletedEvent event){
+        cache.invalidate(event.follower().getUserId());
+    }
+
+    @PreDestroy
+    public void shutdown(){
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.board.graph;
+
+import java.util.PriorityQueue;
+import java.util.function.LongPredicate;
+
+// long 키별 int 카운트를 세는 open addressing 해시 테이블. 키 0 은 빈 칸으로 쓰므로 userId(>0) 전용이다.
+class LongIntCounter {
+
+    private long[] keys = new long[64];
+    private int[] counts = new int[64];
+    private int size;
+    private boolean truncated;
+
+    void increment(long key){
+        add(key, 1);
+    }
+
+    void add(long key, int count){
+        if((size + 1) * 2 > keys.length){
+            resize();
+        }
+        var mask = keys.length - 1;
+        var slot = mix(key) & mask;
+        while(keys[slot] != 0 && keys[slot] != key){
+            slot = (slot + 1) & mask;
+        }
+        if(keys[slot] == 0){
+            keys[slot] = key;
+            size++;
+        }
+        counts[slot] += count;
+    }
+
+    LongIntCounter merge(LongIntCounter other){
+        var larger = size >= other.size ? this : other;
+        var smaller = larger == this ? other : this;
+        for(int i = 0; i < smaller.keys.length; i++){
+            if(smaller.keys[i] != 0){
+                larger.add(smaller.keys[i], smaller.counts[i]);
+            }
+        }
+        larger.truncated |= smaller.truncated;
+        return larger;
+    }
+
+    void markTruncated(){
+        truncated = true;
+    }
+
+    int size(){
+        return size;
+    }
+
+    // 카운트가 큰 순서(같으면 키가 작은 순서)로 excluded 가 아닌 키를 최대 limit 개 고른다.
+    Suggestions top(int limit, LongPredicate excluded){
+        var heap = new PriorityQueue<Integer>((a, b) -> counts[a] != counts[b]
+                ? Integer.compare(counts[a], counts[b])
+                : Long.compare(keys[b], keys[a]));
+        for(int i = 0; i < keys.length; i++){
+            if(keys[i] == 0 || excluded.test(keys[i])){
+                continue;
+            }
+            heap.offer(i);
+            if(heap.size() > limit){
+                heap.poll();
+            }
+        }
+
+        var userIds = new long[heap.size()];
+        var mutualCounts = new int[heap.size()];
+        for(int i = heap.size() - 1; i >= 0; i--){
+            var slot = heap.poll();
+            userIds[i] = keys[slot];
+            mutualCounts[i] = counts[slot];
+        }
+        return new Suggestions(userIds, mutualCounts, truncated);
+    }
+
+    private void resize(){
+        var oldKeys = keys;
+        var oldCounts = counts;
+        keys = new long[oldKeys.length * 2];
+        counts = new int[oldKeys.length * 2];
+        size = 0;
+        for(int i = 0; i < oldKeys.length; i++){
+            if(oldKeys[i] != 0){
+                add(oldKeys[i], oldCounts[i]);
+            }
+        }
+    }
+
+    private static int mix(long key){
+        var hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
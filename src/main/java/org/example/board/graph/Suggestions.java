@@ -0,0 +1,5 @@
+package org.example.board.graph;
+
+// userIds 와 mutualCounts 는 같은 순서로 정렬되어 있다. partial 은 시간이나 후보 수 제한으로 탐색을 중간에 멈췄다는 뜻이다.
+public record Suggestions(long[] userIds, int[] mutualCounts, boolean partial) {
+}
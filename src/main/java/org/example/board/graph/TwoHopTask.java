@@ -0,0 +1,62 @@
+package org.example.board.graph;
+
+import java.util.concurrent.RecursiveTask;
+
+// firstHop(내가 팔로우하는 사용자)을 나눠서 각자가 팔로우하는 사용자를 병렬로 센다.
+// deadline 을 넘기거나 한 구간에서 센 후보가 너무 많아지면 멈추고 그때까지 센 결과만 돌려준다.
+class TwoHopTask extends RecursiveTask<LongIntCounter> {
+
+    private static final int THRESHOLD = 64;
+    private static final int MAX_CANDIDATES_PER_LEAF = 10_000;
+
+    // 팔로잉이 많은 사용자 한 명도 오래 걸릴 수 있어서 순회 중에도 일정 간격으로 시간을 확인한다.
+    private static final int DEADLINE_CHECK_INTERVAL = 1024;
+
+    private final FollowGraph graph;
+    private final long[] firstHop;
+    private final int from;
+    private final int to;
+    private final long deadlineNanos;
+    private int visited;
+
+    TwoHopTask(FollowGraph graph, long[] firstHop, int from, int to, long deadlineNanos){
+        this.graph = graph;
+        this.firstHop = firstHop;
+        this.from = from;
+        this.to = to;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    protected LongIntCounter compute(){
+        if(to - from <= THRESHOLD){
+            var counter = new LongIntCounter();
+            for(int i = from; i < to; i++){
+                if(isOverDeadline() || !graph.forEachFollowing(firstHop[i], candidate -> count(counter, candidate))){
+                    counter.markTruncated();
+                    break;
+                }
+            }
+            return counter;
+        }
+
+        var middle = (from + to) >>> 1;
+        var left = new TwoHopTask(graph, firstHop, from, middle, deadlineNanos);
+        var right = new TwoHopTask(graph, firstHop, middle, to, deadlineNanos);
+        left.fork();
+        var rightResult = right.compute();
+        return left.join().merge(rightResult);
+    }
+
+    private boolean count(LongIntCounter counter, long candidate){
+        counter.increment(candidate);
+        if(counter.size() >= MAX_CANDIDATES_PER_LEAF){
+            return false;
+        }
+        return ++visited % DEADLINE_CHECK_INTERVAL != 0 || !isOverDeadline();
+    }
+
+    private boolean isOverDeadline(){
+        return System.nanoTime() - deadlineNanos > 0;
+    }
+}
@@ -9,11 +9,17 @@ import java.util.Objects;
 @Table(name = "\"follow\"",
 indexes = {
         @Index(name = "follow_follower_following_idx",
-                columnList = "follower, following", unique = true)}
+                columnList = "follower, following", unique = true),
+        @Index(name = "follow_following_createddatetime_followid_idx",
+                columnList = "following, createddatetime, followid"),
+        @Index(name = "follow_follower_createddatetime_followid_idx",
+                columnList = "follower, createddatetime, followid")}
 )
 public class FollowEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "follow_seq")
+    @SequenceGenerator(name = "follow_seq", sequenceName = "follow_seq", allocationSize = 50)
     private Long followId;
 
     @Column
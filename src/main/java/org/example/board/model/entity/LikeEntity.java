@@ -7,10 +7,14 @@ import java.util.Objects;
 
 @Entity
 @Table(name = "\"like\"",
-indexes = {@Index(name = "like_userid_postid_idx", columnList = "userid, postid", unique = true)})
+indexes = {
+        @Index(name = "like_userid_postid_idx", columnList = "userid, postid", unique = true),
+        @Index(name = "like_postid_createddatetime_likeid_idx", columnList = "postid, createddatetime, likeid")})
 public class LikeEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "like_seq")
+    @SequenceGenerator(name = "like_seq", sequenceName = "like_seq", allocationSize = 50)
     private Long likeId;
 
     @Column
@@ -1,6 +1,7 @@
 package org.example.board.model.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
@@ -9,12 +10,16 @@ import java.util.Objects;
 
 @Entity
 @Table(name = "post",
-indexes = {@Index(name = "post_userid_idx", columnList = "userid")})
+indexes = {@Index(name = "post_userid_createddatetime_postid_idx", columnList = "userid, createddatetime, postid"),
+        @Index(name = "post_createddatetime_postid_idx", columnList = "createddatetime, postid")})
 @SQLDelete(sql = "UPDATE \"post\" SET deleteddatetime = CURRENT_TIMESTAMP WHERE postid = ?")
 @SQLRestriction("deleteddatetime IS NULL")
+@DynamicUpdate
 public class PostEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq")
+    @SequenceGenerator(name = "post_seq", sequenceName = "post_seq", allocationSize = 50)
     private Long postId;
 
     @Column(columnDefinition = "TEXT")
@@ -35,6 +40,10 @@ public class PostEntity {
     @Column
     private ZonedDateTime deletedDateTime;
 
+    // 작성 시점에 팔로워 타임라인으로 push 했는지 여부. false 면 조회 시점에 pull 한다.
+    @Column(columnDefinition = "boolean default true")
+    private Boolean fannedOut = true;
+
     @ManyToOne
     @JoinColumn(name = "userId")
     private UserEntity user;
@@ -95,6 +104,14 @@ public class PostEntity {
         this.deletedDateTime = deletedDateTime;
     }
 
+    public Boolean getFannedOut() {
+        return fannedOut;
+    }
+
+    public void setFannedOut(Boolean fannedOut) {
+        this.fannedOut = fannedOut;
+    }
+
     public UserEntity getUser() {
         return user;
     }
@@ -9,14 +9,15 @@ import java.util.Objects;
 
 @Entity
 @Table(name = "reply",
-        indexes = {@Index(name = "reply_userid_idx", columnList = "userid"),
+        indexes = {@Index(name = "reply_userid_createddatetime_replyid_idx", columnList = "userid, createddatetime, replyid"),
                 @Index(name = "reply_postid_idx", columnList = "postid")})
 @SQLDelete(sql = "UPDATE \"reply\" SET deleteddatetime = CURRENT_TIMESTAMP WHERE replyid = ?")
 @SQLRestriction("deleteddatetime IS NULL")
 public class ReplyEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reply_seq")
+    @SequenceGenerator(name = "reply_seq", sequenceName = "reply_seq", allocationSize = 50)
     private Long replyId;
 
     @Column(columnDefinition = "TEXT")
@@ -0,0 +1,86 @@
+package org.example.board.model.entity;
+
+import jakarta.persistence.*;
+
+import java.time.ZonedDateTime;
+import java.util.Objects;
+
+@Entity
+@Table(name = "timeline",
+indexes = {
+        @Index(name = "timeline_userid_postid_idx", columnList = "userid, postid", unique = true),
+        @Index(name = "timeline_userid_createddatetime_postid_idx",
+                columnList = "userid, createddatetime, postid")}
+)
+public class TimelineEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "timeline_seq")
+    @SequenceGenerator(name = "timeline_seq", sequenceName = "timeline_seq", allocationSize = 50)
+    private Long timelineId;
+
+    // 정렬 키. 게시물의 createdDateTime 을 그대로 복사한다.
+    @Column
+    private ZonedDateTime createdDateTime;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "userId")
+    private UserEntity user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "postId")
+    private PostEntity post;
+
+    public Long getTimelineId() {
+        return timelineId;
+    }
+
+    public void setTimelineId(Long timelineId) {
+        this.timelineId = timelineId;
+    }
+
+    public ZonedDateTime getCreatedDateTime() {
+        return createdDateTime;
+    }
+
+    public void setCreatedDateTime(ZonedDateTime createdDateTime) {
+        this.createdDateTime = createdDateTime;
+    }
+
+    public UserEntity getUser() {
+        return user;
+    }
+
+    public void setUser(UserEntity user) {
+        this.user = user;
+    }
+
+    public PostEntity getPost() {
+        return post;
+    }
+
+    public void setPost(PostEntity post) {
+        this.post = post;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TimelineEntity that = (TimelineEntity) o;
+        return Objects.equals(getTimelineId(), that.getTimelineId()) && Objects.equals(getCreatedDateTime(), that.getCreatedDateTime());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getTimelineId(), getCreatedDateTime());
+    }
+
+    public static TimelineEntity of(UserEntity user, PostEntity post){
+        var timeline = new TimelineEntity();
+        timeline.setUser(user);
+        timeline.setPost(post);
+        timeline.setCreatedDateTime(post.getCreatedDateTime());
+        return timeline;
+    }
+}
@@ -13,13 +13,16 @@ import java.util.Random;
 
 @Entity
 @Table(name = "\"user\"",
-indexes = {@Index(name = "user_username_idx", columnList = "username", unique = true)})
+indexes = {
+        @Index(name = "user_username_idx", columnList = "username", unique = true),
+        @Index(name = "user_createddatetime_userid_idx", columnList = "createddatetime, userid")})
 @SQLDelete(sql = "UPDATE \"user\" SET deleteddatetime = CURRENT_TIMESTAMP WHERE userid = ?")
 @SQLRestriction("deleteddatetime IS NULL")
 public class UserEntity implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = 50)
     private Long userId;
 
     @Column(nullable = false) private String username;
@@ -31,6 +34,9 @@ public class UserEntity implements UserDetails {
     @Column private ZonedDateTime createdDateTime;
     @Column private ZonedDateTime updatedDateTime;
     @Column private ZonedDateTime deletedDateTime;
+    @Column(columnDefinition = "bigint default 0") private Long tokenVersion = 0L;
+    // fan-out 하지 않은 게시물이 하나라도 있으면 true. 타임라인 조회 시 이 작성자의 게시물을 pull 한다.
+    @Column(columnDefinition = "boolean default false") private Boolean hasPulledPosts = false;
 
     public Long getUserId() {
         return userId;
@@ -104,6 +110,22 @@ public class UserEntity implements UserDetails {
         this.deletedDateTime = deletedDateTime;
     }
 
+    public Long getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public void setTokenVersion(Long tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
+
+    public Boolean getHasPulledPosts() {
+        return hasPulledPosts;
+    }
+
+    public void setHasPulledPosts(Boolean hasPulledPosts) {
+        this.hasPulledPosts = hasPulledPosts;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
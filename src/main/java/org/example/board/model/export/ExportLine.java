@@ -0,0 +1,40 @@
+package org.example.board.model.export;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.example.board.model.entity.PostEntity;
+import org.example.board.model.entity.ReplyEntity;
+import org.example.board.model.post.Post;
+import org.example.board.model.reply.Reply;
+import org.example.board.model.user.User;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ExportLine(
+        String type,
+        Long postId,
+        Post post,
+        Reply reply) {
+    public static ExportLine from(PostEntity postEntity){
+        return new ExportLine(
+                "post",
+                postEntity.getPostId(),
+                Post.from(postEntity),
+                null
+        );
+    }
+    public static ExportLine from(ReplyEntity replyEntity){
+        // 게시물은 바로 앞 줄에 있으므로 댓글에는 다시 포함하지 않는다.
+        return new ExportLine(
+                "reply",
+                replyEntity.getPost().getPostId(),
+                null,
+                new Reply(
+                        replyEntity.getReplyId(),
+                        replyEntity.getBody(),
+                        User.from(replyEntity.getUser()),
+                        null,
+                        replyEntity.getCreatedDateTime(),
+                        replyEntity.getUpdatedDateTime(),
+                        replyEntity.getDeletedDateTime())
+        );
+    }
+}
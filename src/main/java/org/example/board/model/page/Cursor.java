@@ -0,0 +1,39 @@
+package org.example.board.model.page;
+
+import org.example.board.exception.page.InvalidCursorException;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+// <createdDateTime,id> 형태의 keyset 위치. createdDateTime 은 '+' 가 없는 UTC Instant 로 직렬화한다.
+public record Cursor(ZonedDateTime createdDateTime, Long id) {
+
+    public static Cursor of(ZonedDateTime createdDateTime, Long id){
+        return new Cursor(createdDateTime, id);
+    }
+
+    public static Cursor parse(String value){
+        if(value == null || value.isBlank()){
+            return null;
+        }
+
+        var separator = value.lastIndexOf(',');
+        if(separator <= 0 || separator == value.length() - 1){
+            throw new InvalidCursorException(value);
+        }
+
+        try{
+            var createdDateTime = Instant.parse(value.substring(0, separator)).atZone(ZoneOffset.UTC);
+            var id = Long.parseLong(value.substring(separator + 1));
+            return new Cursor(createdDateTime, id);
+        }catch (DateTimeException | NumberFormatException e){
+            throw new InvalidCursorException(value);
+        }
+    }
+
+    public String encode(){
+        return createdDateTime.toInstant() + "," + id;
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.board.model.page;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPage<T>(List<T> items, String next) {
+
+    public static final int MAX_LIMIT = 100;
+
+    public static int normalizeLimit(int limit){
+        return Math.min(Math.max(limit, 1), MAX_LIMIT);
+    }
+
+    // limit + 1 개를 조회한 결과에서 다음 페이지 존재 여부를 판단한다.
+    public static <E, T> CursorPage<T> of(
+            List<E> fetched, int limit, Function<E, Cursor> cursorOf, Function<List<E>, List<T>> mapper){
+        if(fetched.size() <= limit){
+            return new CursorPage<>(mapper.apply(fetched), null);
+        }
+
+        var page = fetched.subList(0, limit);
+        var next = cursorOf.apply(page.get(limit - 1)).encode();
+        return new CursorPage<>(mapper.apply(page), next);
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.board.model.post;
+
+// 좋아요 토글 결과. delta 는 추가 +1, 삭제 -1, 변화 없음 0 이고,
+// createdMillis 는 추가되거나 삭제된 좋아요의 생성 시각(epoch ms)이다. 변화가 없으면 null 이다.
+public interface LikeToggle {
+    Long getDelta();
+    Long getCreatedMillis();
+}
@@ -43,4 +43,32 @@ public record Post(
                 isLiking
         );
     }
+
+    public Post withIsLiking(Boolean isLiking){
+        return new Post(
+                postId,
+                body,
+                repliesCount,
+                likesCount,
+                user,
+                createdDateTime,
+                updatedDateTime,
+                deletedDateTime,
+                isLiking
+        );
+    }
+
+    public Post withLikesCount(Long likesCount){
+        return new Post(
+                postId,
+                body,
+                repliesCount,
+                likesCount,
+                user,
+                createdDateTime,
+                updatedDateTime,
+                deletedDateTime,
+                isLiking
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package org.example.board.model.post;
+
+import java.time.ZonedDateTime;
+
+public record PostActivity(Long postId, ZonedDateTime createdDateTime) {
+}
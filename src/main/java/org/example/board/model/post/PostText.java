@@ -0,0 +1,4 @@
+package org.example.board.model.post;
+
+public record PostText(Long postId, String body) {
+}
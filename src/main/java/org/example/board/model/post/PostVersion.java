@@ -0,0 +1,43 @@
+package org.example.board.model.post;
+
+import java.time.ZonedDateTime;
+
+// 게시물 응답을 바꾸는 값만 모은 것. 응답을 직렬화하지 않고 ETag 를 계산하는 데 쓴다.
+// 작성자 정보도 응답에 포함되므로 작성자의 수정 시각과 카운터까지 포함한다.
+// 좋아요/댓글 수는 updatedDateTime 을 바꾸지 않으므로 Last-Modified 는 쓰지 않는다.
+public record PostVersion(
+        Long postId,
+        ZonedDateTime updatedDateTime,
+        Long likesCount,
+        Long repliesCount,
+        ZonedDateTime userUpdatedDateTime,
+        Long userFollowersCount,
+        Long userFollowingsCount,
+        Boolean isLiking) {
+    public static PostVersion from(Post post){
+        return new PostVersion(
+                post.postId(),
+                post.updatedDateTime(),
+                post.likesCount(),
+                post.repliesCount(),
+                post.user().updateDateTime(),
+                post.user().followersCount(),
+                post.user().followingsCount(),
+                post.isLiking());
+    }
+
+    public String eTag(){
+        return "\"p" + postId + "-" + toMicros(updatedDateTime) + "-" + likesCount + "-" + repliesCount
+                + "-" + toMicros(userUpdatedDateTime) + "-" + userFollowersCount + "-" + userFollowingsCount
+                + "-" + (Boolean.TRUE.equals(isLiking) ? 1 : 0) + "\"";
+    }
+
+    // DB 에는 마이크로초까지만 (반올림해서) 저장되므로 메모리에 있던 값과 같은 ETag 가 나오도록 맞춘다.
+    private static long toMicros(ZonedDateTime dateTime){
+        if(dateTime == null){
+            return 0;
+        }
+        var instant = dateTime.toInstant();
+        return instant.getEpochSecond() * 1_000_000 + (instant.getNano() + 500) / 1000;
+    }
+}
@@ -0,0 +1,4 @@
+package org.example.board.model.user;
+
+public record FollowEdge(Long followerId, Long followingId) {
+}
@@ -0,0 +1,15 @@
+package org.example.board.model.user;
+
+import org.example.board.model.page.CursorPage;
+import org.example.board.model.post.Post;
+import org.example.board.model.reply.Reply;
+
+import java.util.List;
+
+public record Profile(
+        User user,
+        List<Post> posts,
+        CursorPage<Followers> followers,
+        CursorPage<User> followings,
+        List<Reply> replies) {
+}
@@ -0,0 +1,8 @@
+package org.example.board.model.user;
+
+public record Relationship(
+        String username,
+        Boolean isFollowing,
+        Boolean isFollowedBy,
+        Integer commonFollowersCount) {
+}
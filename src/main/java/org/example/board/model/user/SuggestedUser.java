@@ -0,0 +1,30 @@
+package org.example.board.model.user;
+
+import java.time.ZonedDateTime;
+
+public record SuggestedUser(
+        Long userId,
+        String username,
+        String profile,
+        String description,
+        Long followersCount,
+        Long followingsCount,
+        ZonedDateTime createDateTime,
+        ZonedDateTime updateDateTime,
+        Boolean isFollowing,
+        Integer mutualsCount) {
+    public static SuggestedUser from(User user, Integer mutualsCount){
+        return new SuggestedUser(
+                user.userId(),
+                user.username(),
+                user.profile(),
+                user.description(),
+                user.followersCount(),
+                user.followingsCount(),
+                user.createDateTime(),
+                user.updateDateTime(),
+                user.isFollowing(),
+                mutualsCount
+        );
+    }
+}
@@ -0,0 +1,4 @@
+package org.example.board.model.user;
+
+public record TokenVersion(Long userId, Long tokenVersion) {
+}
@@ -0,0 +1,26 @@
+package org.example.board.model.user;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+// self-contained 토큰의 claim 만으로 만든 인증 주체. DB 를 조회하지 않는다.
+public record UserPrincipal(Long userId, String username, Long tokenVersion) implements UserDetails {
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of();
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+}
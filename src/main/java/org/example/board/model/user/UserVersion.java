@@ -0,0 +1,34 @@
+package org.example.board.model.user;
+
+import java.time.ZonedDateTime;
+
+// 사용자 응답을 바꾸는 값만 모은 것. 응답을 직렬화하지 않고 ETag 를 계산하는 데 쓴다.
+// 팔로워 수 같은 카운터는 updatedDateTime 을 바꾸지 않으므로 Last-Modified 는 쓰지 않는다.
+public record UserVersion(
+        Long userId,
+        ZonedDateTime updatedDateTime,
+        Long followersCount,
+        Long followingsCount,
+        Boolean isFollowing) {
+    public static UserVersion from(User user){
+        return new UserVersion(
+                user.userId(),
+                user.updateDateTime(),
+                user.followersCount(),
+                user.followingsCount(),
+                user.isFollowing());
+    }
+
+    public String eTag(){
+        return "\"u" + userId + "-" + toMicros(updatedDateTime) + "-" + followersCount + "-" + followingsCount
+                + "-" + (Boolean.TRUE.equals(isFollowing) ? 1 : 0) + "\"";
+    }
+
+    private static long toMicros(ZonedDateTime dateTime){
+        if(dateTime == null){
+            return 0;
+        }
+        var instant = dateTime.toInstant();
+        return instant.getEpochSecond() * 1_000_000 + (instant.getNano() + 500) / 1000;
+    }
+}
@@ -0,0 +1,4 @@
+package org.example.board.model.user;
+
+public record UsernameEntry(Long userId, String username, Long followersCount) {
+}
@@ -0,0 +1,18 @@
+package org.example.board.ratelimit;
+
+import org.springframework.http.HttpMethod;
+
+public enum RateLimitGroup {
+    READ, WRITE, AUTH;
+
+    public static RateLimitGroup of(HttpMethod method, String path){
+        if(HttpMethod.POST.equals(method)
+                && (path.matches("/api/[^/]+/users/?") || path.matches("/api/[^/]+/users/authenticate/?"))){
+            return AUTH;
+        }
+        if(HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method) || HttpMethod.OPTIONS.equals(method)){
+            return READ;
+        }
+        return WRITE;
+    }
+}
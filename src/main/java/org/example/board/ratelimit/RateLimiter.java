@@ -0,0 +1,55 @@
+package org.example.board.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 키별 token bucket. GCRA 방식으로 버킷 하나를 "다음 토큰이 생기는 이론상 시각(TAT)" 하나로 표현하고 CAS 로만 갱신한다.
+// TAT 가 현재보다 과거인 버킷은 가득 찬 상태와 같으므로, 오래 쓰이지 않은 버킷은 지워도 동작이 달라지지 않는다.
+public class RateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    public RateLimiter(int capacity, double refillPerSecond){
+        if(capacity <= 0 || refillPerSecond <= 0){
+            throw new IllegalArgumentException("capacity and refillPerSecond must be positive.");
+        }
+        this.emissionIntervalNanos = (long) (1_000_000_000L / refillPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+    }
+
+    // 허용되면 0, 거절되면 다음 요청이 허용될 때까지 기다려야 하는 시간(ns)
+    public long tryAcquire(String key, long nowNanos){
+        var bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(nowNanos));
+        while(true){
+            var tat = bucket.get();
+            var newTat = Math.max(tat, nowNanos) + emissionIntervalNanos;
+            var waitNanos = newTat - nowNanos - burstToleranceNanos;
+            if(waitNanos > 0){
+                return waitNanos;
+            }
+            if(bucket.compareAndSet(tat, newTat)){
+                return 0;
+            }
+        }
+    }
+
+    // Retry-After 는 초 단위 정수라서 올림한다. 이보다 일찍 다시 보내면 또 거절된다.
+    public static long toRetryAfterSeconds(long waitNanos){
+        return Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+    }
+
+    // idle 만큼 지나도록 가득 차 있던 버킷을 지운다.
+    public int evictIdle(Duration idle, long nowNanos){
+        var threshold = nowNanos - idle.toNanos();
+        var before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.get() - threshold < 0);
+        return before - buckets.size();
+    }
+
+    public int size(){
+        return buckets.size();
+    }
+}
@@ -1,17 +1,78 @@
 package org.example.board.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.board.model.entity.FollowEntity;
-import org.example.board.model.entity.LikeEntity;
 import org.example.board.model.entity.UserEntity;
+import org.example.board.model.user.FollowEdge;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public interface FollowEntityRepository extends JpaRepository<FollowEntity, Long> {
+    @EntityGraph(attributePaths = {"follower", "following"})
     List<FollowEntity> findByFollower(UserEntity follower);
+
+    @EntityGraph(attributePaths = {"follower", "following"})
     List<FollowEntity> findByFollowing(UserEntity following);
+
+    @Query("SELECT f FROM FollowEntity f JOIN FETCH f.follower WHERE f.following = :following " +
+            "ORDER BY f.createdDateTime DESC, f.followId DESC")
+    List<FollowEntity> findFollowers(@Param("following") UserEntity following, Pageable pageable);
+
+    @Query("SELECT f FROM FollowEntity f JOIN FETCH f.follower WHERE f.following = :following " +
+            "AND f.createdDateTime <= :createdDateTime " +
+            "AND (f.createdDateTime < :createdDateTime " +
+            "OR (f.createdDateTime = :createdDateTime AND f.followId < :followId)) " +
+            "ORDER BY f.createdDateTime DESC, f.followId DESC")
+    List<FollowEntity> findFollowersBefore(
+            @Param("following") UserEntity following,
+            @Param("createdDateTime") ZonedDateTime createdDateTime,
+            @Param("followId") Long followId,
+            Pageable pageable);
+
+    @Query("SELECT f FROM FollowEntity f JOIN FETCH f.following WHERE f.follower = :follower " +
+            "ORDER BY f.createdDateTime DESC, f.followId DESC")
+    List<FollowEntity> findFollowings(@Param("follower") UserEntity follower, Pageable pageable);
+
+    @Query("SELECT f FROM FollowEntity f JOIN FETCH f.following WHERE f.follower = :follower " +
+            "AND f.createdDateTime <= :createdDateTime " +
+            "AND (f.createdDateTime < :createdDateTime " +
+            "OR (f.createdDateTime = :createdDateTime AND f.followId < :followId)) " +
+            "ORDER BY f.createdDateTime DESC, f.followId DESC")
+    List<FollowEntity> findFollowingsBefore(
+            @Param("follower") UserEntity follower,
+            @Param("createdDateTime") ZonedDateTime createdDateTime,
+            @Param("followId") Long followId,
+            Pageable pageable);
+
     Optional<FollowEntity> findByFollowerAndFollowing(UserEntity follower, UserEntity following);
+
+    @Query("SELECT f.following.userId FROM FollowEntity f " +
+            "WHERE f.follower = :follower AND f.following.userId IN :userIds")
+    Set<Long> findFollowingUserIds(
+            @Param("follower") UserEntity follower, @Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT f.following FROM FollowEntity f " +
+            "WHERE f.follower = :follower AND f.following.hasPulledPosts = true")
+    List<UserEntity> findFollowingsWithPulledPosts(@Param("follower") UserEntity follower);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT new org.example.board.model.user.FollowEdge(f.follower.userId, f.following.userId) " +
+            "FROM FollowEntity f")
+    Stream<FollowEdge> streamEdges();
 }
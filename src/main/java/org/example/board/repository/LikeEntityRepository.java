@@ -1,17 +1,96 @@
 package org.example.board.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.board.model.entity.LikeEntity;
 import org.example.board.model.entity.PostEntity;
 import org.example.board.model.entity.UserEntity;
+import org.example.board.model.post.LikeToggle;
+import org.example.board.model.post.PostActivity;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public interface LikeEntityRepository extends JpaRepository<LikeEntity, Long> {
     List<LikeEntity> findByUser(UserEntity user);
+    @EntityGraph(attributePaths = {"user", "post"})
     List<LikeEntity> findByPost(PostEntity user);
+
+    @Query("SELECT l FROM LikeEntity l JOIN FETCH l.user JOIN FETCH l.post WHERE l.post = :post " +
+            "ORDER BY l.createdDateTime DESC, l.likeId DESC")
+    List<LikeEntity> findLatestByPost(@Param("post") PostEntity post, Pageable pageable);
+
+    @Query("SELECT l FROM LikeEntity l JOIN FETCH l.user JOIN FETCH l.post WHERE l.post = :post " +
+            "AND l.createdDateTime <= :createdDateTime " +
+            "AND (l.createdDateTime < :createdDateTime " +
+            "OR (l.createdDateTime = :createdDateTime AND l.likeId < :likeId)) " +
+            "ORDER BY l.createdDateTime DESC, l.likeId DESC")
+    List<LikeEntity> findLatestByPostBefore(
+            @Param("post") PostEntity post,
+            @Param("createdDateTime") ZonedDateTime createdDateTime,
+            @Param("likeId") Long likeId,
+            Pageable pageable);
+
+    // author 의 게시물들이 받은 좋아요를 한 번의 조인으로 조회한다.
+    @Query("SELECT l FROM LikeEntity l JOIN FETCH l.user JOIN FETCH l.post p JOIN FETCH p.user " +
+            "WHERE p.user = :author " +
+            "ORDER BY l.createdDateTime DESC, l.likeId DESC")
+    List<LikeEntity> findLikesReceived(@Param("author") UserEntity author, Pageable pageable);
+
+    @Query("SELECT l FROM LikeEntity l JOIN FETCH l.user JOIN FETCH l.post p JOIN FETCH p.user " +
+            "WHERE p.user = :author " +
+            "AND l.createdDateTime <= :createdDateTime " +
+            "AND (l.createdDateTime < :createdDateTime " +
+            "OR (l.createdDateTime = :createdDateTime AND l.likeId < :likeId)) " +
+            "ORDER BY l.createdDateTime DESC, l.likeId DESC")
+    List<LikeEntity> findLikesReceivedBefore(
+            @Param("author") UserEntity author,
+            @Param("createdDateTime") ZonedDateTime createdDateTime,
+            @Param("likeId") Long likeId,
+            Pageable pageable);
+
     Optional<LikeEntity> findByUserAndPost(UserEntity user, PostEntity post);
+
+    @Query("SELECT l.post.postId FROM LikeEntity l " +
+            "WHERE l.user = :user AND l.post.postId IN :postIds")
+    Set<Long> findLikedPostIds(
+            @Param("user") UserEntity user, @Param("postIds") Collection<Long> postIds);
+
+    // 좋아요가 있으면 삭제하고 없으면 추가한다. 추가 +1, 삭제 -1, 동시 요청이 먼저 추가한 경우 0.
+    // (userid, postid) 가 unique 라서 deleted/inserted 는 많아야 한 행이다.
+    @Transactional
+    @Query(value = "WITH deleted AS (" +
+            "DELETE FROM \"like\" WHERE userid = :userId AND postid = :postId RETURNING createddatetime), " +
+            "inserted AS (" +
+            "INSERT INTO \"like\" (likeid, userid, postid, createddatetime) " +
+            "SELECT nextval('like_seq'), :userId, :postId, CURRENT_TIMESTAMP " +
+            "WHERE NOT EXISTS (SELECT 1 FROM deleted) " +
+            "ON CONFLICT (userid, postid) DO NOTHING RETURNING createddatetime) " +
+            "SELECT (SELECT count(*) FROM inserted) - (SELECT count(*) FROM deleted) AS \"delta\", " +
+            "CAST(extract(epoch FROM coalesce(" +
+            "(SELECT createddatetime FROM deleted), (SELECT createddatetime FROM inserted))) * 1000 AS bigint) " +
+            "AS \"createdMillis\"",
+            nativeQuery = true)
+    LikeToggle toggle(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT new org.example.board.model.post.PostActivity(p.postId, l.createdDateTime) " +
+            "FROM LikeEntity l JOIN l.post p " +
+            "WHERE l.createdDateTime >= :since AND p.deletedDateTime IS NULL")
+    Stream<PostActivity> streamActivitiesSince(@Param("since") ZonedDateTime since);
 }
@@ -1,13 +1,92 @@
 package org.example.board.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.board.model.entity.PostEntity;
 import org.example.board.model.entity.UserEntity;
+import org.example.board.model.post.PostText;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface PostEntityRepository extends JpaRepository<PostEntity, Long> {
     List<PostEntity> findByUser(UserEntity user);
+
+    @Override
+    @Query("SELECT p FROM PostEntity p JOIN FETCH p.user")
+    List<PostEntity> findAll();
+
+    @Query("SELECT p FROM PostEntity p JOIN FETCH p.user WHERE p.postId IN :postIds")
+    List<PostEntity> findByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    @Query("SELECT p FROM PostEntity p JOIN FETCH p.user " +
+            "ORDER BY p.createdDateTime DESC, p.postId DESC")
+    List<PostEntity> findLatest(Pageable pageable);
+
+    @Query("SELECT p FROM PostEntity p JOIN FETCH p.user " +
+            "WHERE p.createdDateTime <= :createdDateTime " +
+            "AND (p.createdDateTime < :createdDateTime " +
+            "OR (p.createdDateTime = :createdDateTime AND p.postId < :postId)) " +
+            "ORDER BY p.createdDateTime DESC, p.postId DESC")
+    List<PostEntity> findLatestBefore(
+            @Param("createdDateTime") ZonedDateTime createdDateTime,
+            @Param("postId") Long postId,
+            Pageable pageable);
+
+    @Query("SELECT p FROM PostEntity p JOIN FETCH p.user WHERE p.user IN :users " +
+            "ORDER BY p.createdDateTime DESC, p.postId DESC")
+    List<PostEntity> findLatestByUserIn(@Param("users") Collection<UserEntity> users, Pageable pageable);
+
+    @Query("SELECT p FROM PostEntity p JOIN FETCH p.user WHERE p.user IN :users AND p.fannedOut = false " +
+            "ORDER BY p.createdDateTime DESC, p.postId DESC")
+    List<PostEntity> findPulledByUserIn(@Param("users") Collection<UserEntity> users, Pageable pageable);
+
+    @Query("SELECT p FROM PostEntity p JOIN FETCH p.user WHERE p.user IN :users AND p.fannedOut = false " +
+            "AND p.createdDateTime <= :createdDateTime " +
+            "AND (p.createdDateTime < :createdDateTime " +
+            "OR (p.createdDateTime = :createdDateTime AND p.postId < :postId)) " +
+            "ORDER BY p.createdDateTime DESC, p.postId DESC")
+    List<PostEntity> findPulledByUserInBefore(
+            @Param("users") Collection<UserEntity> users,
+            @Param("createdDateTime") ZonedDateTime createdDateTime,
+            @Param("postId") Long postId,
+            Pageable pageable);
+
+    // @PreUpdate 를 거치지 않도록 JPQL 로 바꾼다. (updatedDateTime 은 수정 시각으로만 쓴다)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE PostEntity p SET p.fannedOut = false WHERE p.postId = :postId")
+    int markNotFannedOut(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE PostEntity p SET p.likesCount = greatest(p.likesCount + :delta, 0) " +
+            "WHERE p.postId = :postId")
+    int addLikesCount(@Param("postId") Long postId, @Param("delta") Long delta);
+
+    @Modifying
+    @Query("UPDATE PostEntity p SET p.repliesCount = greatest(p.repliesCount + :delta, 0) " +
+            "WHERE p.postId = :postId")
+    int addRepliesCount(@Param("postId") Long postId, @Param("delta") Long delta);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT p FROM PostEntity p JOIN FETCH p.user WHERE p.postId > :postId ORDER BY p.postId")
+    Stream<PostEntity> streamByPostIdGreaterThan(@Param("postId") Long postId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT new org.example.board.model.post.PostText(p.postId, p.body) " +
+            "FROM PostEntity p ORDER BY p.postId")
+    Stream<PostText> streamTexts();
 }
@@ -1,15 +1,43 @@
 package org.example.board.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.board.model.entity.PostEntity;
 import org.example.board.model.entity.ReplyEntity;
 import org.example.board.model.entity.UserEntity;
+import org.example.board.model.post.PostActivity;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ReplyEntityRepository extends JpaRepository<ReplyEntity, Long> {
     List<ReplyEntity> findByUser(UserEntity user);
     List<ReplyEntity> findByPost(PostEntity user);
+
+    @Query("SELECT r FROM ReplyEntity r JOIN FETCH r.user JOIN FETCH r.post p JOIN FETCH p.user " +
+            "WHERE r.user = :user ORDER BY r.createdDateTime DESC, r.replyId DESC")
+    List<ReplyEntity> findLatestByUser(@Param("user") UserEntity user, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT r FROM ReplyEntity r JOIN FETCH r.user JOIN FETCH r.post p JOIN FETCH p.user " +
+            "WHERE p.postId > :postId ORDER BY p.postId, r.replyId")
+    Stream<ReplyEntity> streamByPostIdGreaterThan(@Param("postId") Long postId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT new org.example.board.model.post.PostActivity(p.postId, r.createdDateTime) " +
+            "FROM ReplyEntity r JOIN r.post p " +
+            "WHERE r.createdDateTime >= :since AND p.deletedDateTime IS NULL")
+    Stream<PostActivity> streamActivitiesSince(@Param("since") ZonedDateTime since);
 }
@@ -0,0 +1,62 @@
+package org.example.board.repository;
+
+import org.example.board.model.entity.PostEntity;
+import org.example.board.model.entity.TimelineEntity;
+import org.example.board.model.entity.UserEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+@Repository
+public interface TimelineEntityRepository extends JpaRepository<TimelineEntity, Long> {
+
+    @Query("SELECT p FROM TimelineEntity t JOIN t.post p JOIN FETCH p.user " +
+            "WHERE t.user = :user AND p.deletedDateTime IS NULL " +
+            "ORDER BY t.createdDateTime DESC, t.post.postId DESC")
+    List<PostEntity> findTimeline(@Param("user") UserEntity user, Pageable pageable);
+
+    @Query("SELECT p FROM TimelineEntity t JOIN t.post p JOIN FETCH p.user " +
+            "WHERE t.user = :user AND p.deletedDateTime IS NULL " +
+            "AND t.createdDateTime <= :createdDateTime " +
+            "AND (t.createdDateTime < :createdDateTime " +
+            "OR (t.createdDateTime = :createdDateTime AND t.post.postId < :postId)) " +
+            "ORDER BY t.createdDateTime DESC, t.post.postId DESC")
+    List<PostEntity> findTimelineBefore(
+            @Param("user") UserEntity user,
+            @Param("createdDateTime") ZonedDateTime createdDateTime,
+            @Param("postId") Long postId,
+            Pageable pageable);
+
+    @Modifying
+    @Query(value = "INSERT INTO timeline (timelineid, userid, postid, createddatetime) " +
+            "SELECT nextval('timeline_seq'), f.follower, :postId, :createdDateTime FROM \"follow\" f WHERE f.following = :authorId " +
+            "ON CONFLICT (userid, postid) DO NOTHING",
+            nativeQuery = true)
+    int fanOut(
+            @Param("postId") Long postId,
+            @Param("createdDateTime") ZonedDateTime createdDateTime,
+            @Param("authorId") Long authorId);
+
+    @Modifying
+    @Query(value = "INSERT INTO timeline (timelineid, userid, postid, createddatetime) " +
+            "SELECT nextval('timeline_seq'), :userId, p.postid, p.createddatetime FROM post p " +
+            "WHERE p.userid = :authorId AND p.fannedout = true AND p.deleteddatetime IS NULL " +
+            "ORDER BY p.createddatetime DESC, p.postid DESC LIMIT :size " +
+            "ON CONFLICT (userid, postid) DO NOTHING",
+            nativeQuery = true)
+    int backfill(
+            @Param("userId") Long userId,
+            @Param("authorId") Long authorId,
+            @Param("size") int size);
+
+    @Modifying
+    @Query("DELETE FROM TimelineEntity t WHERE t.user = :user " +
+            "AND t.post.postId IN (SELECT p.postId FROM PostEntity p WHERE p.user = :author)")
+    int deleteByUserAndAuthor(@Param("user") UserEntity user, @Param("author") UserEntity author);
+}
@@ -1,16 +1,66 @@
 package org.example.board.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.board.model.entity.UserEntity;
+import org.example.board.model.user.TokenVersion;
+import org.example.board.model.user.UsernameEntry;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserEntityRepository extends JpaRepository<UserEntity, Long> {
     Optional<UserEntity> findByUsername(String username);
 
-    List<UserEntity> findByUsernameContaining(String username);
+    @Query("SELECT u FROM UserEntity u ORDER BY u.createdDateTime DESC, u.userId DESC")
+    List<UserEntity> findLatest(Pageable pageable);
 
+    @Query("SELECT u FROM UserEntity u " +
+            "WHERE u.createdDateTime < :createdDateTime " +
+            "OR (u.createdDateTime = :createdDateTime AND u.userId < :userId) " +
+            "ORDER BY u.createdDateTime DESC, u.userId DESC")
+    List<UserEntity> findLatestBefore(
+            @Param("createdDateTime") ZonedDateTime createdDateTime,
+            @Param("userId") Long userId,
+            Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserEntity u SET u.followersCount = greatest(u.followersCount + :delta, 0) " +
+            "WHERE u.userId = :userId")
+    int addFollowersCount(@Param("userId") Long userId, @Param("delta") Long delta);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserEntity u SET u.followingsCount = greatest(u.followingsCount + :delta, 0) " +
+            "WHERE u.userId = :userId")
+    int addFollowingsCount(@Param("userId") Long userId, @Param("delta") Long delta);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT new org.example.board.model.user.UsernameEntry(u.userId, u.username, u.followersCount) " +
+            "FROM UserEntity u")
+    Stream<UsernameEntry> streamUsernameEntries();
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UserEntity u SET u.hasPulledPosts = true " +
+            "WHERE u.userId = :userId AND u.hasPulledPosts = false")
+    int markHasPulledPosts(@Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserEntity u SET u.tokenVersion = coalesce(u.tokenVersion, 0) + 1 WHERE u.userId = :userId")
+    int incrementTokenVersion(@Param("userId") Long userId);
+
+    @Query("SELECT new org.example.board.model.user.TokenVersion(u.userId, u.tokenVersion) " +
+            "FROM UserEntity u WHERE u.tokenVersion > 0")
+    List<TokenVersion> findRevokedTokenVersions();
 }
@@ -0,0 +1,177 @@
+package org.example.board.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+// term -> PostingList 역색인. 검색 결과는 BM25 점수 순으로 정렬한다.
+public class InvertedIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MAX_TERM_LENGTH = 64;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private record Document(String[] terms, int length) { }
+
+    private record ScoredDoc(long docId, double score) { }
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+
+    public void index(long docId, String text){
+        var frequencies = countTerms(text);
+        var length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try{
+            removeDocument(docId);
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new PostingList()).put(docId, frequency));
+            documents.put(docId, new Document(frequencies.keySet().toArray(String[]::new), length));
+            totalLength += length;
+        }finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long docId){
+        lock.writeLock().lock();
+        try{
+            removeDocument(docId);
+        }finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size(){
+        lock.readLock().lock();
+        try{
+            return documents.size();
+        }finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Long> search(String query, int offset, int limit){
+        var terms = countTerms(query).keySet();
+        if(terms.isEmpty() || offset < 0 || limit <= 0){
+            return List.of();
+        }
+
+        var top = new PriorityQueue<ScoredDoc>(
+                (a, b) -> a.score() != b.score()
+                        ? Double.compare(a.score(), b.score())
+                        : Long.compare(b.docId(), a.docId()));
+        var capacity = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+
+        lock.readLock().lock();
+        try{
+            // 전체 문서 수보다 뒤의 페이지는 결과가 있을 수 없다.
+            if(offset >= documents.size()){
+                return List.of();
+            }
+
+            var lists = new ArrayList<PostingList>();
+            var idfs = new ArrayList<Double>();
+            for(var term : terms){
+                var list = postings.get(term);
+                if(list != null && list.size() > 0){
+                    lists.add(list);
+                    idfs.add(idf(list.size()));
+                }
+            }
+            if(lists.isEmpty()){
+                return List.of();
+            }
+
+            var averageLength = documents.isEmpty() ? 1.0 : (double) totalLength / documents.size();
+            var cursors = new int[lists.size()];
+
+            // docId 오름차순으로 정렬된 posting list 들을 k-way merge 하면서 점수를 합산한다.
+            while(true){
+                var docId = Long.MAX_VALUE;
+                for(int i = 0; i < lists.size(); i++){
+                    if(cursors[i] < lists.get(i).size()){
+                        docId = Math.min(docId, lists.get(i).docIdAt(cursors[i]));
+                    }
+                }
+                if(docId == Long.MAX_VALUE){
+                    break;
+                }
+
+                var length = documents.get(docId).length();
+                var score = 0.0;
+                for(int i = 0; i < lists.size(); i++){
+                    var list = lists.get(i);
+                    if(cursors[i] < list.size() && list.docIdAt(cursors[i]) == docId){
+                        var frequency = list.frequencyAt(cursors[i]);
+                        score += idfs.get(i) * frequency * (K1 + 1)
+                                / (frequency + K1 * (1 - B + B * length / averageLength));
+                        cursors[i]++;
+                    }
+                }
+
+                top.offer(new ScoredDoc(docId, score));
+                if(top.size() > capacity){
+                    top.poll();
+                }
+            }
+        }finally {
+            lock.readLock().unlock();
+        }
+
+        var ranked = new ArrayList<Long>(top.size());
+        while(!top.isEmpty()){
+            ranked.add(top.poll().docId());
+        }
+        var result = new ArrayList<Long>(limit);
+        for(int i = ranked.size() - 1 - offset; i >= 0 && result.size() < limit; i--){
+            result.add(ranked.get(i));
+        }
+        return result;
+    }
+
+    static Map<String, Integer> countTerms(String text){
+        var frequencies = new LinkedHashMap<String, Integer>();
+        if(text == null){
+            return frequencies;
+        }
+        for(var token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))){
+            if(!token.isEmpty() && token.length() <= MAX_TERM_LENGTH){
+                frequencies.merge(token, 1, Integer::sum);
+            }
+        }
+        return frequencies;
+    }
+
+    private double idf(int documentFrequency){
+        var n = documents.size();
+        return Math.log(1 + (n - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private void removeDocument(long docId){
+        var document = documents.remove(docId);
+        if(document == null){
+            return;
+        }
+        for(var term : document.terms()){
+            var list = postings.get(term);
+            if(list != null){
+                list.remove(docId);
+                if(list.size() == 0){
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= document.length();
+    }
+}
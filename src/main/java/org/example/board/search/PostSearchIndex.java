@@ -0,0 +1,67 @@
+package org.example.board.search;
+
+import org.example.board.event.PostCreatedEvent;
+import org.example.board.event.PostDeletedEvent;
+import org.example.board.event.PostUpdatedEvent;
+import org.example.board.repository.PostEntityRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// 게시물 본문 역색인. 기동 시 전체 게시물로 만들고, 이후에는 커밋된 게시물 이벤트로만 갱신한다.
+@Component
+public class PostSearchIndex implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostSearchIndex.class);
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    @Autowired private PostEntityRepository postEntityRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    // 요청을 받기 전에 만들어서, 만드는 도중에 작성/수정된 게시물 이벤트가 색인과 섞이지 않게 한다.
+    @Override
+    public void afterSingletonsInstantiated(){
+        build();
+    }
+
+    public void build(){
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        var startedAt = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            try(var texts = postEntityRepository.streamTexts()){
+                texts.forEach(text -> index.index(text.postId(), text.body()));
+            }
+        });
+        logger.info("Post search index built: {} posts in {} ms",
+                index.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    public List<Long> search(String query, int offset, int limit){
+        return index.search(query, offset, limit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event){
+        index.index(event.postEntity().getPostId(), event.postEntity().getBody());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostUpdated(PostUpdatedEvent event){
+        index.index(event.postEntity().getPostId(), event.postEntity().getBody());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event){
+        index.remove(event.postEntity().getPostId());
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.board.search;
+
+import java.util.Arrays;
+
+// 하나의 term 에 대한 (docId, termFrequency) 목록. docId 오름차순으로 primitive 배열에 저장한다.
+class PostingList {
+
+    private long[] docIds = new long[4];
+    private int[] frequencies = new int[4];
+    private int size;
+
+    void put(long docId, int frequency){
+        var index = Arrays.binarySearch(docIds, 0, size, docId);
+        if(index >= 0){
+            frequencies[index] = frequency;
+            return;
+        }
+
+        var insertAt = -(index + 1);
+        if(size == docIds.length){
+            var capacity = size + (size >> 1) + 1;
+            docIds = Arrays.copyOf(docIds, capacity);
+            frequencies = Arrays.copyOf(frequencies, capacity);
+        }
+        System.arraycopy(docIds, insertAt, docIds, insertAt + 1, size - insertAt);
+        System.arraycopy(frequencies, insertAt, frequencies, insertAt + 1, size - insertAt);
+        docIds[insertAt] = docId;
+        frequencies[insertAt] = frequency;
+        size++;
+    }
+
+    void remove(long docId){
+        var index = Arrays.binarySearch(docIds, 0, size, docId);
+        if(index < 0){
+            return;
+        }
+        System.arraycopy(docIds, index + 1, docIds, index, size - index - 1);
+        System.arraycopy(frequencies, index + 1, frequencies, index, size - index - 1);
+        size--;
+    }
+
+    int size(){
+        return size;
+    }
+
+    long docIdAt(int index){
+        return docIds[index];
+    }
+
+    int frequencyAt(int index){
+        return frequencies[index];
+    }
+}
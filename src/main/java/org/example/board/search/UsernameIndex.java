@@ -0,0 +1,150 @@
+package org.example.board.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// username 자동완성 색인. 접두어 검색은 정렬된 맵의 범위 조회로, 중간 일치는 trigram 색인으로 후보를 좁힌다.
+// 후보는 모두 확인하되 상위 limit 개만 heap 에 남겨서, 후보가 많아도 정렬 비용과 메모리는 limit 에 비례한다.
+public class UsernameIndex {
+
+    private record Entry(long userId, String username, String lowerCase, long followersCount) { }
+
+    private record Match(Entry entry, int rank) { }
+
+    private static final Comparator<Match> MATCH_ORDER = Comparator
+            .comparingInt(Match::rank)
+            .thenComparing(match -> match.entry().followersCount(), Comparator.reverseOrder())
+            .thenComparing(match -> match.entry().username());
+
+    private static final int EXACT = 0;
+    private static final int PREFIX = 1;
+    private static final int INFIX = 2;
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final NavigableMap<String, Entry> byName = new TreeMap<>();
+    private final Map<String, Set<Long>> trigrams = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(long userId, String username, long followersCount){
+        var entry = new Entry(userId, username, username.toLowerCase(Locale.ROOT), followersCount);
+
+        lock.writeLock().lock();
+        try{
+            removeEntry(userId);
+            entries.put(userId, entry);
+            byName.put(nameKey(entry), entry);
+            for(var trigram : trigramsOf(entry.lowerCase())){
+                trigrams.computeIfAbsent(trigram, key -> new HashSet<>()).add(userId);
+            }
+        }finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size(){
+        lock.readLock().lock();
+        try{
+            return entries.size();
+        }finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Long> search(String query, int limit){
+        var lowerCase = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+        if(lowerCase.isEmpty() || limit <= 0){
+            return List.of();
+        }
+
+        // 가장 나쁜 후보가 맨 앞에 오는 heap 에 limit 개만 남긴다. 이름 순서로 먼저 자르지 않고 순위로만 고른다.
+        var top = new PriorityQueue<Match>(limit + 1, MATCH_ORDER.reversed());
+        lock.readLock().lock();
+        try{
+            for(var entry : byName.subMap(lowerCase, true, lowerCase + Character.MAX_VALUE, false).values()){
+                offer(top, new Match(entry, entry.lowerCase().equals(lowerCase) ? EXACT : PREFIX), limit);
+            }
+
+            // 세 글자 미만의 검색어는 trigram 이 없으므로 접두어 일치만 돌려준다.
+            var candidates = smallestPostings(lowerCase);
+            if(candidates != null){
+                for(var userId : candidates){
+                    var entry = entries.get(userId);
+                    if(!entry.lowerCase().startsWith(lowerCase) && entry.lowerCase().contains(lowerCase)){
+                        offer(top, new Match(entry, INFIX), limit);
+                    }
+                }
+            }
+        }finally {
+            lock.readLock().unlock();
+        }
+
+        var result = new ArrayList<Match>(top);
+        result.sort(MATCH_ORDER);
+        return result.stream()
+                .map(match -> match.entry().userId())
+                .toList();
+    }
+
+    private static void offer(PriorityQueue<Match> top, Match match, int limit){
+        if(top.size() < limit){
+            top.offer(match);
+        }else if(MATCH_ORDER.compare(match, top.peek()) < 0){
+            top.poll();
+            top.offer(match);
+        }
+    }
+
+    private Set<Long> smallestPostings(String lowerCase){
+        Set<Long> smallest = null;
+        for(var trigram : trigramsOf(lowerCase)){
+            var postings = trigrams.get(trigram);
+            if(postings == null){
+                return Set.of();
+            }
+            if(smallest == null || postings.size() < smallest.size()){
+                smallest = postings;
+            }
+        }
+        return smallest;
+    }
+
+    private void removeEntry(long userId){
+        var entry = entries.remove(userId);
+        if(entry == null){
+            return;
+        }
+        byName.remove(nameKey(entry));
+        for(var trigram : trigramsOf(entry.lowerCase())){
+            var postings = trigrams.get(trigram);
+            if(postings != null){
+                postings.remove(userId);
+                if(postings.isEmpty()){
+                    trigrams.remove(trigram);
+                }
+            }
+        }
+    }
+
+    // 대소문자만 다른 username 이 있을 수 있으므로 userId 를 덧붙여 키를 구분한다.
+    private static String nameKey(Entry entry){
+        return entry.lowerCase() + '\0' + entry.userId();
+    }
+
+    private static Set<String> trigramsOf(String lowerCase){
+        var result = new HashSet<String>();
+        for(int i = 0; i + 3 <= lowerCase.length(); i++){
+            result.add(lowerCase.substring(i, i + 3));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.board.search;
+
+import org.example.board.event.FollowCreatedEvent;
+import org.example.board.event.FollowDeletedEvent;
+import org.example.board.event.UserCreatedEvent;
+import org.example.board.model.entity.UserEntity;
+import org.example.board.repository.UserEntityRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// username 자동완성 색인. 기동 시 전체 사용자로 만들고 가입/팔로우 이벤트로 갱신한다.
+@Component
+public class UsernameSearchIndex implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(UsernameSearchIndex.class);
+
+    private final UsernameIndex index = new UsernameIndex();
+
+    @Autowired private UserEntityRepository userEntityRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    // 가입/팔로우 이벤트가 적재 중인 색인에 끼어들지 않도록 요청을 받기 전에 만든다.
+    @Override
+    public void afterSingletonsInstantiated(){
+        build();
+    }
+
+    public void build(){
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            try(var entries = userEntityRepository.streamUsernameEntries()){
+                entries.forEach(entry -> index.put(entry.userId(), entry.username(), entry.followersCount()));
+            }
+        });
+        logger.info("Username search index built: {} users", index.size());
+    }
+
+    public List<Long> search(String query, int limit){
+        return index.search(query, limit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserCreated(UserCreatedEvent event){
+        put(event.userEntity());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFollowCreated(FollowCreatedEvent event){
+        put(event.following());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFollowDeleted(FollowDeletedEvent event){
+        put(event.following());
+    }
+
+    private void put(UserEntity userEntity){
+        index.put(userEntity.getUserId(), userEntity.getUsername(), userEntity.getFollowersCount());
+    }
+}
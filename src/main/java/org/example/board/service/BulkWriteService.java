@@ -0,0 +1,110 @@
+package org.example.board.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.example.board.cache.PostCache;
+import org.example.board.event.FollowCreatedEvent;
+import org.example.board.model.entity.FollowEntity;
+import org.example.board.model.entity.LikeEntity;
+import org.example.board.model.entity.ReplyEntity;
+import org.example.board.model.entity.UserEntity;
+import org.example.board.repository.PostEntityRepository;
+import org.example.board.repository.UserEntityRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toMap;
+
+// 대량의 좋아요/팔로우/댓글을 JDBC batch insert 로 저장한다.
+// 카운터 컬럼은 대상별로 묶어서 한 번씩 delta 로 갱신한다.
+@Service
+public class BulkWriteService {
+
+    @PersistenceContext private EntityManager entityManager;
+    @Autowired private PostEntityRepository postEntityRepository;
+    @Autowired private UserEntityRepository userEntityRepository;
+    @Autowired private ApplicationEventPublisher eventPublisher;
+    @Autowired private PostCache postCache;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    @Transactional
+    public void saveLikes(List<LikeEntity> likeEntities){
+        persistInBatches(likeEntities);
+        var counts = countBy(likeEntities, likeEntity -> likeEntity.getPost().getPostId());
+        counts.forEach(postEntityRepository::addLikesCount);
+        invalidatePostsAfterCommit(counts.keySet());
+    }
+
+    // 팔로우 하나씩 저장할 때와 같이 FollowCreatedEvent 를 발행해서 타임라인 backfill, 팔로우 그래프,
+    // principal 캐시 등이 함께 갱신되도록 한다. 이벤트에는 카운터가 반영된 사용자를 다시 읽어서 넣는다.
+    @Transactional
+    public void saveFollows(List<FollowEntity> followEntities){
+        persistInBatches(followEntities);
+        countBy(followEntities, followEntity -> followEntity.getFollowing().getUserId())
+                .forEach(userEntityRepository::addFollowersCount);
+        countBy(followEntities, followEntity -> followEntity.getFollower().getUserId())
+                .forEach(userEntityRepository::addFollowingsCount);
+
+        var userIds = new HashSet<Long>();
+        followEntities.forEach(followEntity -> {
+            userIds.add(followEntity.getFollower().getUserId());
+            userIds.add(followEntity.getFollowing().getUserId());
+        });
+        var users = userEntityRepository.findAllById(userIds).stream()
+                .collect(toMap(UserEntity::getUserId, Function.identity()));
+
+        followEntities.forEach(followEntity -> eventPublisher.publishEvent(new FollowCreatedEvent(
+                users.get(followEntity.getFollower().getUserId()),
+                users.get(followEntity.getFollowing().getUserId()))));
+    }
+
+    @Transactional
+    public void saveReplies(List<ReplyEntity> replyEntities){
+        persistInBatches(replyEntities);
+        var counts = countBy(replyEntities, replyEntity -> replyEntity.getPost().getPostId());
+        counts.forEach(postEntityRepository::addRepliesCount);
+        invalidatePostsAfterCommit(counts.keySet());
+    }
+
+    private <T> void persistInBatches(List<T> entities){
+        for(int i = 0; i < entities.size(); i++){
+            entityManager.persist(entities.get(i));
+            if((i + 1) % batchSize == 0){
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    // 커밋 전에 지우면 그 사이에 다른 요청이 커밋 전 값을 다시 캐시할 수 있다.
+    private void invalidatePostsAfterCommit(Collection<Long> postIds){
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                postIds.forEach(postCache::invalidate);
+            }
+        });
+    }
+
+    // id 순서로 갱신해서 동시에 실행되는 트랜잭션과의 데드락을 피한다.
+    private <T> TreeMap<Long, Long> countBy(List<T> entities, Function<T, Long> key){
+        return entities.stream().collect(groupingBy(key, TreeMap::new, counting()));
+    }
+}
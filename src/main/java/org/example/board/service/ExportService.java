@@ -0,0 +1,144 @@
+package org.example.board.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.example.board.exception.export.TooManyExportsException;
+import org.example.board.exception.user.UserNotAllowedException;
+import org.example.board.model.entity.PostEntity;
+import org.example.board.model.entity.ReplyEntity;
+import org.example.board.model.entity.UserEntity;
+import org.example.board.model.export.ExportLine;
+import org.example.board.repository.PostEntityRepository;
+import org.example.board.repository.ReplyEntityRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 게시물과 댓글을 postId 순서로 한 줄씩 NDJSON 으로 내보낸다.
+// 각 게시물 줄 바로 뒤에 그 게시물의 댓글 줄이 이어지므로, 마지막으로 받은 postId 부터 이어받을 수 있다.
+// export 는 커넥션과 async 스레드를 오래 잡고 있으므로 board.export.admins 의 사용자만, 동시에 max-concurrent 개까지 허용한다.
+@Service
+public class ExportService {
+
+    private static final int CLEAR_INTERVAL = 500;
+
+    private final Set<String> admins;
+    private final Semaphore permits;
+
+    public ExportService(
+            @Value("${board.export.admins:}") Set<String> admins,
+            @Value("${board.export.max-concurrent:2}") int maxConcurrent){
+        this.admins = admins;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    @PersistenceContext private EntityManager entityManager;
+    @Autowired private PostEntityRepository postEntityRepository;
+    @Autowired private ReplyEntityRepository replyEntityRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private ObjectMapper objectMapper;
+
+    public StreamingResponseBody exportPosts(Long afterPostId, UserEntity currentUser, WebRequest webRequest){
+        if(!admins.contains(currentUser.getUsername())){
+            throw new UserNotAllowedException();
+        }
+        if(!permits.tryAcquire()){
+            throw new TooManyExportsException();
+        }
+
+        // body 가 끝나면 바로 돌려주고, body 가 아예 실행되지 않은 경우(executor 거절, timeout, 오류)에도
+        // async 요청이 끝날 때 한 번만 돌려준다.
+        var released = new AtomicBoolean();
+        Runnable release = () -> {
+            if(released.compareAndSet(false, true)){
+                permits.release();
+            }
+        };
+        try {
+            WebAsyncUtils.getAsyncManager(webRequest).registerCallableInterceptor(
+                    ExportService.class.getName(),
+                    new CallableProcessingInterceptor() {
+                        @Override
+                        public <T> void afterCompletion(NativeWebRequest request, Callable<T> task){
+                            release.run();
+                        }
+                    });
+        } catch (RuntimeException e) {
+            release.run();
+            throw e;
+        }
+
+        return outputStream -> {
+            try {
+                exportPosts(afterPostId, outputStream);
+            } finally {
+                release.run();
+            }
+        };
+    }
+
+    private void exportPosts(Long afterPostId, OutputStream outputStream){
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            try(var posts = postEntityRepository.streamByPostIdGreaterThan(afterPostId);
+                var replies = replyEntityRepository.streamByPostIdGreaterThan(afterPostId)){
+                var out = new BufferedOutputStream(outputStream);
+                write(posts.iterator(), replies.iterator(), out);
+                out.flush();
+            }catch (IOException e){
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void write(Iterator<PostEntity> posts, Iterator<ReplyEntity> replies, OutputStream out)
+            throws IOException {
+        var written = 0;
+        var reply = replies.hasNext() ? replies.next() : null;
+
+        while(posts.hasNext()){
+            var post = posts.next();
+            writeLine(ExportLine.from(post), out);
+            written++;
+
+            // 삭제된 게시물의 댓글은 짝이 되는 게시물 줄이 없으므로 건너뛴다.
+            while(reply != null && reply.getPost().getPostId() <= post.getPostId()){
+                if(reply.getPost().getPostId().equals(post.getPostId())){
+                    writeLine(ExportLine.from(reply), out);
+                    written++;
+                }
+                reply = replies.hasNext() ? replies.next() : null;
+            }
+
+            if(written >= CLEAR_INTERVAL){
+                entityManager.clear();
+                written = 0;
+            }
+        }
+    }
+
+    private void writeLine(ExportLine line, OutputStream out) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(line));
+        out.write('\n');
+    }
+}
@@ -1,51 +1,113 @@
 package org.example.board.service;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.board.cache.TtlCache;
+import org.example.board.cache.TtlCacheMetrics;
+import org.example.board.model.entity.UserEntity;
+import org.example.board.model.user.UserPrincipal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
-import javax.xml.crypto.Data;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
+import java.util.HexFormat;
 
 @Service
 public class JwtService {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtService.class);
     private static final SecretKey key = Jwts.SIG.HS256.key().build();
+    private static final JwtParser parser = Jwts.parser().verifyWith(key).build();
 
-    public String generateAccessToken(UserDetails userDetails){
-        return generateToken(userDetails.getUsername());
-    }
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String TOKEN_VERSION_CLAIM = "ver";
+    private static final long EXPIRATION_MILLIS = 1000 * 60 * 60 * 3;
+
+    // 검증을 마친 토큰의 SHA-256 -> claim. 토큰 원문은 보관하지 않고, 토큰 만료 시각이 지나면 함께 만료된다.
+    // maximum-size 가 0 이면 캐시하지 않는다.
+    private final TtlCache<String, UserPrincipal> verifiedTokens;
 
-    public String getUsername(String accessToken){
-        return getSubject(accessToken);
+    public JwtService(
+            @Value("${board.jwt.cache.maximum-size:10000}") int maximumSize,
+            @Value("${board.jwt.cache.ttl:5m}") Duration ttl,
+            MeterRegistry meterRegistry){
+        if(maximumSize > 0){
+            this.verifiedTokens = new TtlCache<>(maximumSize, ttl);
+            TtlCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt");
+        }else{
+            this.verifiedTokens = null;
+        }
     }
 
-    private String generateToken(String subject){
+    public String generateAccessToken(UserEntity userEntity){
         var now = new Date();
-        var exp = new Date(now.getTime() * (1000 * 60 * 60 * 3));
+        var exp = new Date(now.getTime() + EXPIRATION_MILLIS);
 
-        return Jwts.builder().subject(subject).signWith(key)
+        return Jwts.builder().subject(userEntity.getUsername())
+                .claim(USER_ID_CLAIM, userEntity.getUserId())
+                .claim(TOKEN_VERSION_CLAIM, userEntity.getTokenVersion())
+                .signWith(key)
                 .issuedAt(now)
                 .expiration(exp)
                 .compact();
     }
 
-    private String getSubject(String token){
+    // 이전 방식으로 발급된 토큰에는 uid, ver claim 이 없으므로 null 로 남는다.
+    public UserPrincipal getPrincipal(String accessToken){
+        if(verifiedTokens == null){
+            return toPrincipal(getClaims(accessToken));
+        }
+
+        var tokenHash = hash(accessToken);
+        var principal = verifiedTokens.get(tokenHash);
+        if(principal != null){
+            return principal;
+        }
+
+        var claims = getClaims(accessToken);
+        principal = toPrincipal(claims);
+        if(claims.getExpiration() != null){
+            verifiedTokens.put(
+                    tokenHash,
+                    principal,
+                    Duration.ofMillis(claims.getExpiration().getTime() - System.currentTimeMillis()));
+        }
+        return principal;
+    }
+
+    private UserPrincipal toPrincipal(Claims claims){
+        return new UserPrincipal(
+                claims.get(USER_ID_CLAIM, Long.class),
+                claims.getSubject(),
+                claims.get(TOKEN_VERSION_CLAIM, Long.class));
+    }
+
+    private Claims getClaims(String token){
         try{
-            return Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload()
-                    .getSubject();
+            return parser.parseSignedClaims(token).getPayload();
         }catch (JwtException e){
             logger.error("JwtException", e);
             throw e;
         }
     }
+
+    private static String hash(String token){
+        try{
+            var digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        }catch (NoSuchAlgorithmException e){
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -0,0 +1,80 @@
+package org.example.board.service;
+
+import jakarta.annotation.PreDestroy;
+import org.example.board.cache.PostCache;
+import org.example.board.event.LikeToggledEvent;
+import org.example.board.repository.PostEntityRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 좋아요 수 변화량을 메모리에 누적했다가 주기적으로 DB 에 delta 로 반영한다.
+// 조회 시에는 저장된 likesCount 에 아직 반영되지 않은 delta 를 더해서 보여준다.
+@Service
+public class LikeCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LikeCounterService.class);
+
+    private final ConcurrentHashMap<Long, Long> pendingDeltas = new ConcurrentHashMap<>();
+
+    @Autowired private PostEntityRepository postEntityRepository;
+    @Autowired private PostCache postCache;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    public void add(Long postId, long delta){
+        pendingDeltas.merge(postId, delta, Long::sum);
+    }
+
+    public long getPendingDelta(Long postId){
+        return pendingDeltas.getOrDefault(postId, 0L);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeToggled(LikeToggledEvent event){
+        add(event.postId(), event.liked() ? 1 : -1);
+    }
+
+    @PreDestroy
+    public void shutdown(){
+        flush();
+    }
+
+    @Scheduled(fixedDelayString = "${board.counter.like.flush-interval-ms:1000}")
+    public void flush(){
+        if(pendingDeltas.isEmpty()){
+            return;
+        }
+
+        // remove 가 원자적으로 값을 가져가므로, 이후의 add 는 새 엔트리에 누적된다.
+        // postId 순서로 반영해서 동시에 실행되는 트랜잭션과의 데드락을 피한다.
+        var deltas = new TreeMap<Long, Long>();
+        for(var postId : pendingDeltas.keySet()){
+            var delta = pendingDeltas.remove(postId);
+            if(delta != null && delta != 0){
+                deltas.put(postId, delta);
+            }
+        }
+        if(deltas.isEmpty()){
+            return;
+        }
+
+        try{
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    deltas.forEach(postEntityRepository::addLikesCount));
+        }catch (RuntimeException e){
+            logger.error("Failed to flush like counts, retrying on next flush", e);
+            deltas.forEach(this::add);
+            return;
+        }
+
+        deltas.keySet().forEach(postCache::invalidate);
+    }
+}
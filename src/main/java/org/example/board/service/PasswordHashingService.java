@@ -0,0 +1,103 @@
+package org.example.board.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.example.board.exception.user.PasswordHashingUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// BCrypt 는 CPU 를 오래 쓰므로 요청 스레드가 아닌 전용 풀에서 실행한다.
+// 풀과 대기열이 가득 차면 기다리지 않고 바로 503 으로 거절해서, 로그인이 몰려도 다른 API 가 CPU 를 쓸 수 있게 한다.
+@Service
+public class PasswordHashingService {
+
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+    private final Timer hashTimer;
+    private final Timer queueTimer;
+
+    public PasswordHashingService(
+            BCryptPasswordEncoder passwordEncoder,
+            @Value("${board.password.hashing.threads:0}") int threads,
+            @Value("${board.password.hashing.queue-capacity:100}") int queueCapacity,
+            @Value("${board.password.hashing.timeout:5s}") Duration timeout,
+            MeterRegistry meterRegistry){
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutNanos = timeout.toNanos();
+
+        var poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        var threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    var thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = Timer.builder("password.hashing.duration").register(meterRegistry);
+        this.queueTimer = Timer.builder("password.hashing.queue").register(meterRegistry);
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "password-hashing");
+    }
+
+    public String encode(String rawPassword){
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword){
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    private <T> T execute(Callable<T> task){
+        var submittedAt = System.nanoTime();
+        try{
+            var future = executor.submit(() -> {
+                var startedAt = System.nanoTime();
+                queueTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try{
+                    return task.call();
+                }finally {
+                    hashTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+
+            try{
+                return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            }catch (TimeoutException e){
+                future.cancel(true);
+                throw new PasswordHashingUnavailableException();
+            }
+        }catch (RejectedExecutionException e){
+            throw new PasswordHashingUnavailableException();
+        }catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException();
+        }catch (ExecutionException e){
+            if(e.getCause() instanceof RuntimeException runtimeException){
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown(){
+        executor.shutdown();
+    }
+}
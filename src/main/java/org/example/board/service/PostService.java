@@ -1,10 +1,16 @@
 package org.example.board.service;
 
+import org.example.board.cache.PostCache;
+import org.example.board.event.LikeToggledEvent;
+import org.example.board.event.PostCreatedEvent;
+import org.example.board.event.PostDeletedEvent;
+import org.example.board.event.PostUpdatedEvent;
 import org.example.board.exception.post.PostNotFoundException;
 import org.example.board.exception.user.UserNotAllowedException;
 import org.example.board.exception.user.UserNotFoundException;
-import org.example.board.model.entity.LikeEntity;
 import org.example.board.model.entity.UserEntity;
+import org.example.board.model.page.Cursor;
+import org.example.board.model.page.CursorPage;
 import org.example.board.model.post.Post;
 import org.example.board.model.post.PostPatchRequestBody;
 import org.example.board.model.post.PostPostRequestBody;
@@ -12,10 +18,18 @@ import org.example.board.model.entity.PostEntity;
 import org.example.board.repository.LikeEntityRepository;
 import org.example.board.repository.PostEntityRepository;
 import org.example.board.repository.UserEntityRepository;
+import org.example.board.search.PostSearchIndex;
+import org.example.board.trending.TrendingEngine;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 
 
@@ -25,34 +39,102 @@ public class PostService {
     @Autowired private PostEntityRepository postEntityRepository;
     @Autowired private UserEntityRepository userEntityRepository;
     @Autowired private LikeEntityRepository likeEntityRepository;
+    @Autowired private ApplicationEventPublisher eventPublisher;
+    @Autowired private PostCache postCache;
+    @Autowired private LikeCounterService likeCounterService;
+    @Autowired private PostSearchIndex postSearchIndex;
+    @Autowired private TrendingEngine trendingEngine;
 
     public List<Post> getPosts(UserEntity currentUser){
         var postEntities = postEntityRepository.findAll();
-        return postEntities.stream().map(
-                postEntity -> getPostWithLikingStatus(postEntity, currentUser))
+        return getPostsWithLikingStatus(postEntities, currentUser);
+    }
+
+    public CursorPage<Post> getPosts(Cursor cursor, int limit, UserEntity currentUser){
+        var pageable = PageRequest.ofSize(limit + 1);
+        var postEntities = cursor == null
+                ? postEntityRepository.findLatest(pageable)
+                : postEntityRepository.findLatestBefore(cursor.createdDateTime(), cursor.id(), pageable);
+
+        return CursorPage.of(
+                postEntities,
+                limit,
+                postEntity -> Cursor.of(postEntity.getCreatedDateTime(), postEntity.getPostId()),
+                page -> getPostsWithLikingStatus(page, currentUser));
+    }
+
+    public List<Post> searchPosts(String query, int page, int size, UserEntity currentUser){
+        var offset = (int) Math.min((long) Math.max(page, 0) * size, Integer.MAX_VALUE);
+        var postIds = postSearchIndex.search(query, offset, size);
+        return getPostsByPostIds(postIds, currentUser);
+    }
+
+    public List<Post> getTrendingPosts(int limit, UserEntity currentUser){
+        return getPostsByPostIds(trendingEngine.getTrendingPostIds(limit), currentUser);
+    }
+
+    // postIds 의 순서를 유지한 채 게시물을 한 번에 조회한다.
+    public List<Post> getPostsByPostIds(List<Long> postIds, UserEntity currentUser){
+        if(postIds.isEmpty()){
+            return List.of();
+        }
+
+        var order = new HashMap<Long, Integer>();
+        for(int i = 0; i < postIds.size(); i++){
+            order.putIfAbsent(postIds.get(i), i);
+        }
+        var postEntities = postEntityRepository.findByPostIdIn(postIds).stream()
+                .sorted(Comparator.comparing(postEntity -> order.get(postEntity.getPostId())))
                 .toList();
+        return getPostsWithLikingStatus(postEntities, currentUser);
     }
 
     public Post getPostByPostId(Long postId, UserEntity currentUser){
-        var postEntity = postEntityRepository
-                .findById(postId)
+        var post = getCachedPost(postId);
+
+        var isLiking = likeEntityRepository
+                .findLikedPostIds(currentUser, List.of(postId))
+                .contains(postId);
+
+        return withPendingLikes(post.withIsLiking(isLiking), 0);
+    }
+
+    private Post getCachedPost(Long postId){
+        return postCache.get(postId, id -> postEntityRepository
+                .findById(id)
+                .map(Post::from)
                 .orElseThrow(
-                        () -> new PostNotFoundException(postId));
-        return getPostWithLikingStatus(postEntity, currentUser);
+                        () -> new PostNotFoundException(postId)));
     }
 
-    private Post getPostWithLikingStatus(PostEntity postEntity, UserEntity currentUser){
-        var isLiking = likeEntityRepository
-                .findByUserAndPost(currentUser, postEntity)
-                .isPresent();
+    private Post withPendingLikes(Post post, long delta){
+        var pendingDelta = likeCounterService.getPendingDelta(post.postId()) + delta;
+        if(pendingDelta == 0){
+            return post;
+        }
+        return post.withLikesCount(Math.max(0, post.likesCount() + pendingDelta));
+    }
+
+    public List<Post> getPostsWithLikingStatus(List<PostEntity> postEntities, UserEntity currentUser){
+        if(postEntities.isEmpty()){
+            return List.of();
+        }
 
-        return Post.from(postEntity, isLiking);
+        var postIds = postEntities.stream().map(PostEntity::getPostId).toList();
+        var likedPostIds = likeEntityRepository.findLikedPostIds(currentUser, postIds);
+
+        return postEntities.stream().map(
+                postEntity -> withPendingLikes(
+                        Post.from(postEntity, likedPostIds.contains(postEntity.getPostId())), 0))
+                .toList();
     }
 
+    @Transactional
     public Post createPost(PostPostRequestBody postPostRequestBody, UserEntity currentUser) {
         var postEntity = postEntityRepository.save(
                 PostEntity.of(postPostRequestBody.body(), currentUser)
         );
+        eventPublisher.publishEvent(new PostCreatedEvent(postEntity));
         return Post.from(postEntity);
     }
 
@@ -62,14 +144,15 @@ public class PostService {
                 .orElseThrow(
                         () -> new PostNotFoundException(postId));
 
-        if(!postEntity.getUser().equals(currentUser)){
+        if(!postEntity.getUser().getUserId().equals(currentUser.getUserId())){
             throw new UserNotAllowedException();
         }
 
         postEntity.setBody(postPatchRequestBody.body());
         var updatedPostEntity = postEntityRepository.save(postEntity);
+        eventPublisher.publishEvent(new PostUpdatedEvent(updatedPostEntity));
 
-        return Post.from(updatedPostEntity);
+        return withPendingLikes(Post.from(updatedPostEntity), 0);
     }
 
 
@@ -79,11 +162,12 @@ public class PostService {
                 .orElseThrow(
                         () -> new PostNotFoundException(postId));
 
-        if(!postEntity.getUser().equals(currentUser)){
+        if(!postEntity.getUser().getUserId().equals(currentUser.getUserId())){
             throw new UserNotAllowedException();
         }
 
         postEntityRepository.delete(postEntity);
+        eventPublisher.publishEvent(new PostDeletedEvent(postEntity));
     }
 
     public List<Post> getPostByUsername(String username, UserEntity currentUser) {
@@ -92,28 +176,26 @@ public class PostService {
                 .orElseThrow(() -> new UserNotFoundException(username));
 
         var postEntities = postEntityRepository.findByUser(userEntity);
-        return postEntities.stream().map(
-                postEntity -> getPostWithLikingStatus(postEntity, currentUser))
-                .toList();
+        return getPostsWithLikingStatus(postEntities, currentUser);
+    }
+
+    public List<Post> getLatestPostsByUser(UserEntity userEntity, int limit, UserEntity currentUser) {
+        var postEntities = postEntityRepository.findLatestByUserIn(List.of(userEntity), PageRequest.ofSize(limit));
+        return getPostsWithLikingStatus(postEntities, currentUser);
     }
 
     @Transactional
     public Post toggleLike(Long postId, UserEntity currentUser) {
-        var postEntity = postEntityRepository
-                .findById(postId)
-                .orElseThrow(
-                        () -> new PostNotFoundException(postId));
-
-        var likeEntity = likeEntityRepository.findByUserAndPost(currentUser, postEntity);
-
-        if(likeEntity.isPresent()){
-            likeEntityRepository.delete(likeEntity.get());
-            postEntity.setLikesCount(Math.max(0, postEntity.getLikesCount() - 1));
-            return Post.from(postEntityRepository.save(postEntity), false);
-        }else{
-            likeEntityRepository.save(LikeEntity.of(currentUser, postEntity));
-            postEntity.setLikesCount(postEntity.getLikesCount() + 1);
-            return Post.from(postEntityRepository.save(postEntity), true);
+        var post = getCachedPost(postId);
+
+        // likesCount 는 커밋 후 LikeCounterService 가 누적해서 반영한다.
+        var toggle = likeEntityRepository.toggle(currentUser.getUserId(), postId);
+        long delta = toggle.getDelta();
+        if(delta != 0){
+            var createdDateTime = Instant.ofEpochMilli(toggle.getCreatedMillis()).atZone(ZoneOffset.UTC);
+            eventPublisher.publishEvent(new LikeToggledEvent(postId, currentUser, delta > 0, createdDateTime));
         }
+
+        return withPendingLikes(post.withIsLiking(delta >= 0), delta);
     }
 }
@@ -0,0 +1,128 @@
+package org.example.board.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.example.board.exception.user.ProfileUnavailableException;
+import org.example.board.model.entity.UserEntity;
+import org.example.board.model.user.Profile;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// 프로필 화면에 필요한 사용자/게시물/팔로워/팔로잉/댓글을 동시에 조회해서 한 번에 돌려준다.
+// 요청 스레드는 DB 를 쓰지 않는다. open-in-view 로 묶인 요청 스레드의 커넥션을 쥔 채 각 섹션이 커넥션을
+// 기다리면 풀이 고갈될 수 있으므로, 대상 사용자 조회부터 전용 풀에서 실행하고 요청 스레드는 결과만 기다린다.
+// 전용 풀의 스레드 수가 곧 프로필이 동시에 쓰는 커넥션 수이므로 커넥션 풀보다 충분히 작게 잡는다.
+@Service
+public class ProfileService {
+
+    @Autowired private UserService userService;
+    @Autowired private PostService postService;
+    @Autowired private ReplyService replyService;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private final ThreadPoolExecutor executor;
+    private final int maxSectionSize;
+    private final long timeoutNanos;
+
+    public ProfileService(
+            @Value("${board.profile.threads:0}") int threads,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${board.profile.queue-capacity:100}") int queueCapacity,
+            @Value("${board.profile.timeout:3s}") Duration timeout,
+            @Value("${board.profile.max-section-size:20}") int maxSectionSize,
+            MeterRegistry meterRegistry){
+        this.maxSectionSize = maxSectionSize;
+        this.timeoutNanos = timeout.toNanos();
+
+        var poolSize = threads > 0 ? threads : Math.max(1, maximumPoolSize / 4);
+        var threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    var thread = new Thread(runnable, "profile-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "profile");
+    }
+
+    public Profile getProfile(String username, int sectionSize, UserEntity currentUser) {
+        var size = Math.min(sectionSize, maxSectionSize);
+        var deadlineNanos = System.nanoTime() + timeoutNanos;
+
+        CompletableFuture<UserEntity> userEntity;
+        try {
+            userEntity = CompletableFuture.supplyAsync(
+                    () -> withinDeadline(deadlineNanos, () -> userService.getUserEntity(username)), executor);
+        } catch (RejectedExecutionException e) {
+            throw new ProfileUnavailableException();
+        }
+
+        var user = then(userEntity, deadlineNanos, target -> userService.getUser(target, currentUser));
+        var posts = then(userEntity, deadlineNanos, target -> postService.getLatestPostsByUser(target, size, currentUser));
+        var followers = then(userEntity, deadlineNanos, target -> userService.getFollowersByUser(target, null, size, currentUser));
+        var followings = then(userEntity, deadlineNanos, target -> userService.getFollowingsByUser(target, null, size, currentUser));
+        var replies = then(userEntity, deadlineNanos, target -> replyService.getLatestRepliesByUser(target, size));
+
+        try {
+            CompletableFuture.allOf(user, posts, followers, followings, replies)
+                    .orTimeout(timeoutNanos, TimeUnit.NANOSECONDS)
+                    .join();
+
+            return new Profile(user.join(), posts.join(), followers.join(), followings.join(), replies.join());
+        } catch (CompletionException e) {
+            // 아직 시작하지 않은 섹션은 취소해서 건너뛴다. 실행 중인 쿼리는 트랜잭션 timeout 으로 끊긴다.
+            Stream.of(userEntity, user, posts, followers, followings, replies).forEach(future -> future.cancel(false));
+            if(e.getCause() instanceof RejectedExecutionException || e.getCause() instanceof TimeoutException){
+                throw new ProfileUnavailableException();
+            }
+            // UserNotFoundException 같은 예외가 GlobalExceptionHandler 에 그대로 전달되도록 벗겨낸다.
+            if(e.getCause() instanceof RuntimeException cause){
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private <T> CompletableFuture<T> then(
+            CompletableFuture<UserEntity> userEntity, long deadlineNanos, Function<UserEntity, T> section){
+        return userEntity.thenApplyAsync(target -> withinDeadline(deadlineNanos, () -> section.apply(target)), executor);
+    }
+
+    // 남은 시간을 트랜잭션 timeout 으로 걸어서, 응답을 포기한 뒤에도 쿼리가 커넥션을 오래 쥐고 있지 않게 한다.
+    private <T> T withinDeadline(long deadlineNanos, Supplier<T> section){
+        var remainingNanos = deadlineNanos - System.nanoTime();
+        if(remainingNanos <= 0){
+            throw new CompletionException(new TimeoutException());
+        }
+
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.setTimeout((int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remainingNanos + 999_999_999L)));
+        return transactionTemplate.execute(status -> section.get());
+    }
+
+    @PreDestroy
+    public void shutdown(){
+        executor.shutdown();
+    }
+}
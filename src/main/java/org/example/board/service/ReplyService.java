@@ -1,5 +1,7 @@
 package org.example.board.service;
 
+import org.example.board.event.ReplyCreatedEvent;
+import org.example.board.event.ReplyDeletedEvent;
 import org.example.board.exception.post.PostNotFoundException;
 import org.example.board.exception.reply.ReplyNotFoundException;
 import org.example.board.exception.user.UserNotAllowedException;
@@ -13,6 +15,8 @@ import org.example.board.repository.PostEntityRepository;
 import org.example.board.repository.ReplyEntityRepository;
 import org.example.board.repository.UserEntityRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +29,7 @@ public class ReplyService {
     @Autowired private ReplyEntityRepository replyEntityRepository;
     @Autowired private PostEntityRepository postEntityRepository;
     @Autowired private UserEntityRepository userEntityRepository;
+    @Autowired private ApplicationEventPublisher eventPublisher;
 
     public List<Reply> getRepliesByPostId(Long postId) {
         var postEntity = postEntityRepository
@@ -46,6 +51,7 @@ public class ReplyService {
                 replyEntityRepository.save(ReplyEntity.of(replyPostRequestBody.body(), currentUser, postEntity));
 
         postEntity.setRepliesCount(postEntity.getRepliesCount() + 1);
+        eventPublisher.publishEvent(new ReplyCreatedEvent(replyEntity));
 
         return Reply.from(replyEntity);
     }
@@ -56,7 +62,7 @@ public class ReplyService {
                 .orElseThrow(
                         () -> new ReplyNotFoundException(replyId));
 
-        if(!replyEntity.getUser().equals(currentUser)){
+        if(!replyEntity.getUser().getUserId().equals(currentUser.getUserId())){
             throw new UserNotAllowedException();
         }
 
@@ -78,7 +84,7 @@ public class ReplyService {
                 .orElseThrow(
                         () -> new ReplyNotFoundException(replyId));
 
-        if(!replyEntity.getUser().equals(currentUser)){
+        if(!replyEntity.getUser().getUserId().equals(currentUser.getUserId())){
             throw new UserNotAllowedException();
         }
 
@@ -86,6 +92,7 @@ public class ReplyService {
 
         postEntity.setRepliesCount(Math.max(0, postEntity.getRepliesCount() - 1));
         postEntityRepository.save(postEntity);
+        eventPublisher.publishEvent(new ReplyDeletedEvent(replyEntity));
     }
 
     public List<Reply> getRepliesByUser(String username) {
@@ -96,4 +103,9 @@ public class ReplyService {
         var replyEntities = replyEntityRepository.findByUser(userEntity);
         return replyEntities.stream().map(Reply::from).toList();
     }
+
+    public List<Reply> getLatestRepliesByUser(UserEntity userEntity, int limit) {
+        var replyEntities = replyEntityRepository.findLatestByUser(userEntity, PageRequest.ofSize(limit));
+        return replyEntities.stream().map(Reply::from).toList();
+    }
 }
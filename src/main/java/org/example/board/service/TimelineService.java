@@ -0,0 +1,111 @@
+package org.example.board.service;
+
+import org.example.board.event.FollowCreatedEvent;
+import org.example.board.event.FollowDeletedEvent;
+import org.example.board.event.PostCreatedEvent;
+import org.example.board.model.entity.PostEntity;
+import org.example.board.model.entity.TimelineEntity;
+import org.example.board.model.entity.UserEntity;
+import org.example.board.model.page.Cursor;
+import org.example.board.model.page.CursorPage;
+import org.example.board.model.post.Post;
+import org.example.board.repository.FollowEntityRepository;
+import org.example.board.repository.PostEntityRepository;
+import org.example.board.repository.TimelineEntityRepository;
+import org.example.board.repository.UserEntityRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.stream.Stream;
+
+// 팔로워 수가 fan-out-threshold 미만인 작성자의 게시물은 작성 시점에 팔로워 타임라인으로 push 하고,
+// 그 이상인 작성자의 게시물은 조회 시점에 pull 해서 병합한다.
+// push/pull 여부는 게시물마다 기록하므로, 작성자의 팔로워 수가 나중에 임계값을 오르내려도 게시물이 빠지거나 겹치지 않는다.
+@Service
+public class TimelineService {
+
+    private static final Comparator<PostEntity> TIMELINE_ORDER = Comparator
+            .comparing((PostEntity postEntity) -> postEntity.getCreatedDateTime().toInstant())
+            .thenComparing(PostEntity::getPostId)
+            .reversed();
+
+    @Autowired private TimelineEntityRepository timelineEntityRepository;
+    @Autowired private PostEntityRepository postEntityRepository;
+    @Autowired private FollowEntityRepository followEntityRepository;
+    @Autowired private UserEntityRepository userEntityRepository;
+    @Autowired private PostService postService;
+
+    @Value("${board.timeline.fan-out-threshold:10000}")
+    private long fanOutThreshold;
+
+    @Value("${board.timeline.backfill-size:100}")
+    private int backfillSize;
+
+    public CursorPage<Post> getTimeline(Cursor cursor, int limit, UserEntity currentUser){
+        var pageable = PageRequest.ofSize(limit + 1);
+
+        var pushed = cursor == null
+                ? timelineEntityRepository.findTimeline(currentUser, pageable)
+                : timelineEntityRepository.findTimelineBefore(
+                        currentUser, cursor.createdDateTime(), cursor.id(), pageable);
+
+        var pulledAuthors = followEntityRepository.findFollowingsWithPulledPosts(currentUser);
+        var pulled = pulledAuthors.isEmpty()
+                ? List.<PostEntity>of()
+                : cursor == null
+                        ? postEntityRepository.findPulledByUserIn(pulledAuthors, pageable)
+                        : postEntityRepository.findPulledByUserInBefore(
+                                pulledAuthors, cursor.createdDateTime(), cursor.id(), pageable);
+
+        // push/pull 은 게시물 단위로 나뉘지만 backfill 과 fan-out 이 겹치는 경우를 대비해 postId 로 중복을 제거한다.
+        var merged = new LinkedHashMap<Long, PostEntity>();
+        Stream.concat(pushed.stream(), pulled.stream())
+                .forEach(postEntity -> merged.putIfAbsent(postEntity.getPostId(), postEntity));
+
+        var postEntities = merged.values().stream()
+                .sorted(TIMELINE_ORDER)
+                .limit(limit + 1)
+                .toList();
+
+        return CursorPage.of(
+                postEntities,
+                limit,
+                postEntity -> Cursor.of(postEntity.getCreatedDateTime(), postEntity.getPostId()),
+                page -> postService.getPostsWithLikingStatus(page, currentUser));
+    }
+
+    @EventListener
+    public void onPostCreated(PostCreatedEvent event){
+        var postEntity = event.postEntity();
+        var author = postEntity.getUser();
+
+        timelineEntityRepository.save(TimelineEntity.of(author, postEntity));
+
+        if(author.getFollowersCount() < fanOutThreshold){
+            timelineEntityRepository.fanOut(
+                    postEntity.getPostId(), postEntity.getCreatedDateTime(), author.getUserId());
+        }
+        else {
+            postEntityRepository.markNotFannedOut(postEntity.getPostId());
+            userEntityRepository.markHasPulledPosts(author.getUserId());
+        }
+    }
+
+    // push 됐던 게시물만 채운다. pull 대상 게시물은 조회 시점에 가져온다.
+    @EventListener
+    public void onFollowCreated(FollowCreatedEvent event){
+        timelineEntityRepository.backfill(
+                event.follower().getUserId(), event.following().getUserId(), backfillSize);
+    }
+
+    @EventListener
+    public void onFollowDeleted(FollowDeletedEvent event){
+        timelineEntityRepository.deleteByUserAndAuthor(event.follower(), event.following());
+    }
+}
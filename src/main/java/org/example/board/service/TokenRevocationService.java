@@ -0,0 +1,36 @@
+package org.example.board.service;
+
+import jakarta.annotation.PostConstruct;
+import org.example.board.event.UserTokensRevokedEvent;
+import org.example.board.repository.UserEntityRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// self-contained 토큰 검증용 userId -> tokenVersion 표. 한 번도 로그아웃하지 않은 사용자(버전 0)는 담지 않는다.
+// 요청을 받기 전에 채워져 있어야 하므로 빈 초기화 시점에 적재한다.
+@Service
+public class TokenRevocationService {
+
+    private final Map<Long, Long> tokenVersions = new ConcurrentHashMap<>();
+
+    @Autowired private UserEntityRepository userEntityRepository;
+
+    @PostConstruct
+    public void load(){
+        userEntityRepository.findRevokedTokenVersions()
+                .forEach(version -> tokenVersions.put(version.userId(), version.tokenVersion()));
+    }
+
+    public boolean isCurrent(Long userId, Long tokenVersion){
+        return tokenVersions.getOrDefault(userId, 0L).equals(tokenVersion);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserTokensRevoked(UserTokensRevokedEvent event){
+        tokenVersions.merge(event.userEntity().getUserId(), event.userEntity().getTokenVersion(), Math::max);
+    }
+}
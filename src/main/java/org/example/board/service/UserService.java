@@ -1,5 +1,11 @@
 package org.example.board.service;
 
+import org.example.board.cache.PrincipalCache;
+import org.example.board.event.FollowCreatedEvent;
+import org.example.board.event.FollowDeletedEvent;
+import org.example.board.event.UserCreatedEvent;
+import org.example.board.event.UserTokensRevokedEvent;
+import org.example.board.event.UserUpdatedEvent;
 import org.example.board.exception.follow.FollowAlreadyExistsException;
 import org.example.board.exception.follow.FollowNotFoundException;
 import org.example.board.exception.follow.InvalidFollowException;
@@ -7,24 +13,37 @@ import org.example.board.exception.post.PostNotFoundException;
 import org.example.board.exception.user.UserAlreadyExistsException;
 import org.example.board.exception.user.UserNotAllowedException;
 import org.example.board.exception.user.UserNotFoundException;
+import org.example.board.graph.FollowGraphStore;
+import org.example.board.graph.FollowSuggester;
 import org.example.board.model.entity.FollowEntity;
 import org.example.board.model.entity.LikeEntity;
 import org.example.board.model.entity.PostEntity;
 import org.example.board.model.entity.UserEntity;
+import org.example.board.model.page.Cursor;
+import org.example.board.model.page.CursorPage;
 import org.example.board.model.user.*;
 import org.example.board.repository.FollowEntityRepository;
 import org.example.board.repository.LikeEntityRepository;
 import org.example.board.repository.PostEntityRepository;
 import org.example.board.repository.UserEntityRepository;
+import org.example.board.search.UsernameSearchIndex;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
 
 import static java.util.stream.Collectors.toList;
 
@@ -32,18 +51,45 @@ import static java.util.stream.Collectors.toList;
 public class UserService implements UserDetailsService {
 
     @Autowired private UserEntityRepository userEntityRepository;
-    @Autowired private BCryptPasswordEncoder passwordEncoder;
+    @Autowired private PasswordHashingService passwordHashingService;
     @Autowired private JwtService jwtService;
     @Autowired private PostEntityRepository postEntityRepository;
     @Autowired private FollowEntityRepository followEntityRepository;
     @Autowired private LikeEntityRepository likeEntityRepository;
+    @Autowired private ApplicationEventPublisher eventPublisher;
+    @Autowired private PrincipalCache principalCache;
+    @Autowired private UsernameSearchIndex usernameSearchIndex;
+    @Autowired private FollowGraphStore followGraphStore;
+    @Autowired private FollowSuggester followSuggester;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userEntityRepository
-                .findByUsername(username)
-                .orElseThrow(() -> new UserNotFoundException(username)
-        );
+        var userEntity = principalCache.get(
+                username, name -> userEntityRepository.findByUsername(name).orElse(null));
+        if(userEntity == null){
+            throw new UserNotFoundException(username);
+        }
+        return userEntity;
+    }
+
+    // self-contained 토큰이면 UserPrincipal 이므로 조회 없이 프록시를 돌려준다. userId 외의 값을 읽을 때만 조회된다.
+    public UserEntity getCurrentUser(Authentication authentication){
+        var principal = authentication.getPrincipal();
+        if(principal instanceof UserEntity userEntity){
+            return userEntity;
+        }
+        if(principal instanceof UserPrincipal userPrincipal){
+            return userEntityRepository.getReferenceById(userPrincipal.userId());
+        }
+        throw new UserNotFoundException();
+    }
+
+    // tokenVersion 을 올려서 지금까지 발급된 모든 토큰을 무효화한다.
+    @Transactional
+    public void logout(UserEntity currentUser){
+        userEntityRepository.incrementTokenVersion(currentUser.getUserId());
+        var userEntity = getUserById(currentUser.getUserId());
+        eventPublisher.publishEvent(new UserTokensRevokedEvent(userEntity));
     }
 
     public User signUp(String username, String password) {
@@ -54,7 +100,8 @@ public class UserService implements UserDetailsService {
                             throw new UserAlreadyExistsException();
                         });
         var userEntity
-                = userEntityRepository.save(UserEntity.of(username, passwordEncoder.encode(password)));
+                = userEntityRepository.save(UserEntity.of(username, passwordHashingService.encode(password)));
+        eventPublisher.publishEvent(new UserCreatedEvent(userEntity));
 
         return User.from(userEntity);
     }
@@ -64,7 +111,7 @@ public class UserService implements UserDetailsService {
                 .findByUsername(username)
                 .orElseThrow(() -> new UserNotFoundException(username));
 
-        if (passwordEncoder.matches(password, userEntity.getPassword())) {
+        if (passwordHashingService.matches(password, userEntity.getPassword())) {
             var accessToken = jwtService.generateAccessToken(userEntity);
             return new UserAuthenticationResponse(accessToken);
         }
@@ -73,19 +120,41 @@ public class UserService implements UserDetailsService {
         }
     }
 
-    public List<User> getUsers(String query, UserEntity currentUser) {
-        List<UserEntity> userEntities;
+    public List<User> getUsers(UserEntity currentUser) {
+        return getUsersWithFollowingStatus(userEntityRepository.findAll(), currentUser);
+    }
 
+    public CursorPage<User> getUsers(String query, Cursor cursor, int limit, UserEntity currentUser) {
         if(query != null && !query.isBlank()){
-            //TODO: query 검색어 기반, 해당 검색어가 username에 포함되어 있는 유저목록 가져오기
-            userEntities = userEntityRepository.findByUsernameContaining(query);
+            // 정확히 일치 > 접두어 일치 > 중간 일치, 같은 순위에서는 팔로워가 많은 순서. 상위 limit 개만 돌려주므로 다음 페이지는 없다.
+            var userEntities = findUsersByUserIds(usernameSearchIndex.search(query, limit));
+            return new CursorPage<>(getUsersWithFollowingStatus(userEntities, currentUser), null);
         }
-        else{
-            userEntities = userEntityRepository.findAll();
+
+        var pageable = PageRequest.ofSize(limit + 1);
+        var userEntities = cursor == null
+                ? userEntityRepository.findLatest(pageable)
+                : userEntityRepository.findLatestBefore(cursor.createdDateTime(), cursor.id(), pageable);
+
+        return CursorPage.of(
+                userEntities,
+                limit,
+                user -> Cursor.of(user.getCreatedDateTime(), user.getUserId()),
+                page -> getUsersWithFollowingStatus(page, currentUser));
+    }
+
+    private List<UserEntity> findUsersByUserIds(List<Long> userIds){
+        if(userIds.isEmpty()){
+            return List.of();
         }
-        return userEntities.stream().map(
-                userEntity -> getUserWithFollowingStatus(userEntity, currentUser)
-        ).toList();
+
+        var order = new HashMap<Long, Integer>();
+        for(int i = 0; i < userIds.size(); i++){
+            order.putIfAbsent(userIds.get(i), i);
+        }
+        return userEntityRepository.findAllById(userIds).stream()
+                .sorted(Comparator.comparing(userEntity -> order.get(userEntity.getUserId())))
+                .toList();
     }
 
     public User getUser(String username, UserEntity currentUser) {
@@ -96,6 +165,64 @@ public class UserService implements UserDetailsService {
         return getUserWithFollowingStatus(userEntity, currentUser);
     }
 
+    public User getUser(UserEntity userEntity, UserEntity currentUser) {
+        return getUserWithFollowingStatus(userEntity, currentUser);
+    }
+
+    public UserEntity getUserEntity(String username) {
+        return userEntityRepository
+                .findByUsername(username)
+                .orElseThrow(() -> new UserNotFoundException(username));
+    }
+
+    public Relationship getRelationship(String username, UserEntity currentUser) {
+        var userEntity = userEntityRepository
+                .findByUsername(username)
+                .orElseThrow(() -> new UserNotFoundException(username));
+
+        var graph = followGraphStore.getGraph();
+        return new Relationship(
+                userEntity.getUsername(),
+                graph.isFollowing(currentUser.getUserId(), userEntity.getUserId()),
+                graph.isFollowing(userEntity.getUserId(), currentUser.getUserId()),
+                graph.countCommonFollowers(currentUser.getUserId(), userEntity.getUserId()));
+    }
+
+    // 내가 팔로우하는 사용자 중 username 을 팔로우하는 사용자
+    public List<User> getKnownFollowersByUsername(String username, int limit, UserEntity currentUser) {
+        var userEntity = userEntityRepository
+                .findByUsername(username)
+                .orElseThrow(() -> new UserNotFoundException(username));
+
+        var userIds = followGraphStore.getGraph()
+                .getKnownFollowers(currentUser.getUserId(), userEntity.getUserId(), limit);
+        return findUsersByUserIds(Arrays.stream(userIds).boxed().toList()).stream()
+                .map(knownFollower -> User.from(knownFollower, true))
+                .toList();
+    }
+
+    public List<SuggestedUser> getSuggestionsByUsername(String username, int limit, UserEntity currentUser) {
+        var userEntity = userEntityRepository
+                .findByUsername(username)
+                .orElseThrow(() -> new UserNotFoundException(username));
+
+        var suggestions = followSuggester.suggest(userEntity.getUserId());
+        var count = Math.min(limit, suggestions.userIds().length);
+        var mutualCounts = new HashMap<Long, Integer>();
+        for(int i = 0; i < count; i++){
+            mutualCounts.put(suggestions.userIds()[i], suggestions.mutualCounts()[i]);
+        }
+
+        var suggestedUsers = findUsersByUserIds(
+                Arrays.stream(suggestions.userIds(), 0, count).boxed().toList());
+        var followingUserIds = getFollowingUserIds(suggestedUsers, currentUser);
+        return suggestedUsers.stream()
+                .map(suggestedUser -> SuggestedUser.from(
+                        User.from(suggestedUser, followingUserIds.contains(suggestedUser.getUserId())),
+                        mutualCounts.get(suggestedUser.getUserId())))
+                .toList();
+    }
+
     private User getUserWithFollowingStatus(UserEntity userEntity, UserEntity currentUser){
         var isFollowing = followEntityRepository
                 .findByFollowerAndFollowing(currentUser, userEntity)
@@ -104,12 +231,28 @@ public class UserService implements UserDetailsService {
         return User.from(userEntity, isFollowing);
     }
 
+    private List<User> getUsersWithFollowingStatus(List<UserEntity> userEntities, UserEntity currentUser){
+        var followingUserIds = getFollowingUserIds(userEntities, currentUser);
+        return userEntities.stream().map(
+                userEntity -> User.from(userEntity, followingUserIds.contains(userEntity.getUserId()))
+        ).toList();
+    }
+
+    private Set<Long> getFollowingUserIds(Collection<UserEntity> userEntities, UserEntity currentUser){
+        if(userEntities.isEmpty()){
+            return Set.of();
+        }
+
+        var userIds = userEntities.stream().map(UserEntity::getUserId).distinct().toList();
+        return followEntityRepository.findFollowingUserIds(currentUser, userIds);
+    }
+
     public User updateUser(String username, UserPatchRequestBody userPatchRequestBody, UserEntity currentUser) {
         var userEntity = userEntityRepository
                 .findByUsername(username)
                 .orElseThrow(() -> new UserNotFoundException(username));
 
-        if(!userEntity.equals(currentUser)){
+        if(!userEntity.getUserId().equals(currentUser.getUserId())){
             throw new UserNotAllowedException();
         }
 
@@ -117,7 +260,9 @@ public class UserService implements UserDetailsService {
             userEntity.setDescription(userPatchRequestBody.description());
         }
 
-        return User.from(userEntityRepository.save(userEntity));
+        var updatedUserEntity = userEntityRepository.save(userEntity);
+        eventPublisher.publishEvent(new UserUpdatedEvent(updatedUserEntity));
+        return User.from(updatedUserEntity);
     }
 
     @Transactional
@@ -126,7 +271,7 @@ public class UserService implements UserDetailsService {
                 .findByUsername(username)
                 .orElseThrow(() -> new UserNotFoundException(username));
 
-        if(following.equals(currentUser)){
+        if(following.getUserId().equals(currentUser.getUserId())){
             throw new InvalidFollowException("A user cannot follow themselves.");
         }
 
@@ -140,12 +285,15 @@ public class UserService implements UserDetailsService {
                 FollowEntity.of(currentUser, following)
         );
 
-        following.setFollowersCount(following.getFollowersCount() + 1);
-        currentUser.setFollowingsCount(currentUser.getFollowingsCount() + 1);
+        // currentUser 는 캐시된 detached 엔티티나 프록시일 수 있으므로 저장하지 않고 DB 에서 증감한 뒤 다시 읽는다.
+        userEntityRepository.addFollowersCount(following.getUserId(), 1L);
+        userEntityRepository.addFollowingsCount(currentUser.getUserId(), 1L);
 
-        userEntityRepository.saveAll(List.of(following, currentUser));
+        var updatedFollowing = getUserById(following.getUserId());
+        var updatedFollower = getUserById(currentUser.getUserId());
+        eventPublisher.publishEvent(new FollowCreatedEvent(updatedFollower, updatedFollowing));
 
-        return User.from(following, true);
+        return User.from(updatedFollowing, true);
     }
 
     @Transactional
@@ -154,7 +302,7 @@ public class UserService implements UserDetailsService {
                 .findByUsername(username)
                 .orElseThrow(() -> new UserNotFoundException(username));
 
-        if(following.equals(currentUser)){
+        if(following.getUserId().equals(currentUser.getUserId())){
             throw new InvalidFollowException("A user cannot unfollow themselves.");
         }
 
@@ -165,12 +313,20 @@ public class UserService implements UserDetailsService {
 
         followEntityRepository.delete(followEntity);
 
-        following.setFollowersCount(Math.max(0, following.getFollowersCount() - 1));
-        currentUser.setFollowingsCount(Math.max(0, currentUser.getFollowingsCount() + 1));
+        userEntityRepository.addFollowersCount(following.getUserId(), -1L);
+        userEntityRepository.addFollowingsCount(currentUser.getUserId(), -1L);
+
+        var updatedFollowing = getUserById(following.getUserId());
+        var updatedFollower = getUserById(currentUser.getUserId());
+        eventPublisher.publishEvent(new FollowDeletedEvent(updatedFollower, updatedFollowing));
 
-        userEntityRepository.saveAll(List.of(following, currentUser));
+        return User.from(updatedFollowing, false);
+    }
 
-        return User.from(following, false);
+    private UserEntity getUserById(Long userId){
+        return userEntityRepository
+                .findById(userId)
+                .orElseThrow(UserNotFoundException::new);
     }
 
     public List<Followers> getFollowersByUsername(String username, UserEntity currentUser) {
@@ -179,10 +335,42 @@ public class UserService implements UserDetailsService {
                 .orElseThrow(() -> new UserNotFoundException(username));
 
         var followEntities = followEntityRepository.findByFollowing(following);
+        return getFollowersWithFollowingStatus(followEntities, currentUser);
+    }
+
+    public CursorPage<Followers> getFollowersByUsername(
+            String username, Cursor cursor, int limit, UserEntity currentUser) {
+        var following = userEntityRepository
+                .findByUsername(username)
+                .orElseThrow(() -> new UserNotFoundException(username));
+
+        return getFollowersByUser(following, cursor, limit, currentUser);
+    }
+
+    public CursorPage<Followers> getFollowersByUser(
+            UserEntity following, Cursor cursor, int limit, UserEntity currentUser) {
+        var pageable = PageRequest.ofSize(limit + 1);
+        var followEntities = cursor == null
+                ? followEntityRepository.findFollowers(following, pageable)
+                : followEntityRepository.findFollowersBefore(following, cursor.createdDateTime(), cursor.id(), pageable);
+
+        return CursorPage.of(
+                followEntities,
+                limit,
+                follow -> Cursor.of(follow.getCreatedDateTime(), follow.getFollowId()),
+                page -> getFollowersWithFollowingStatus(page, currentUser));
+    }
+
+    private List<Followers> getFollowersWithFollowingStatus(
+            List<FollowEntity> followEntities, UserEntity currentUser){
+        var followingUserIds = getFollowingUserIds(
+                followEntities.stream().map(FollowEntity::getFollower).toList(), currentUser);
 
         return followEntities.stream()
                 .map(follow -> Followers.from(
-                        getUserWithFollowingStatus(follow.getFollower(), currentUser),
+                        User.from(
+                                follow.getFollower(),
+                                followingUserIds.contains(follow.getFollower().getUserId())),
                         follow.getCreatedDateTime()
                 ))
                 .toList();
@@ -193,11 +381,34 @@ public class UserService implements UserDetailsService {
                 .findByUsername(username)
                 .orElseThrow(() -> new UserNotFoundException(username));
 
-        var followEntities = followEntityRepository.findByFollowing(follower);
+        var followEntities = followEntityRepository.findByFollower(follower);
 
-        return followEntities.stream()
-                .map(follow -> getUserWithFollowingStatus(follow.getFollowing(), currentUser))
-                .toList();
+        return getUsersWithFollowingStatus(
+                followEntities.stream().map(FollowEntity::getFollowing).toList(), currentUser);
+    }
+
+    public CursorPage<User> getFollowingsByUsername(
+            String username, Cursor cursor, int limit, UserEntity currentUser) {
+        var follower = userEntityRepository
+                .findByUsername(username)
+                .orElseThrow(() -> new UserNotFoundException(username));
+
+        return getFollowingsByUser(follower, cursor, limit, currentUser);
+    }
+
+    public CursorPage<User> getFollowingsByUser(
+            UserEntity follower, Cursor cursor, int limit, UserEntity currentUser) {
+        var pageable = PageRequest.ofSize(limit + 1);
+        var followEntities = cursor == null
+                ? followEntityRepository.findFollowings(follower, pageable)
+                : followEntityRepository.findFollowingsBefore(follower, cursor.createdDateTime(), cursor.id(), pageable);
+
+        return CursorPage.of(
+                followEntities,
+                limit,
+                follow -> Cursor.of(follow.getCreatedDateTime(), follow.getFollowId()),
+                page -> getUsersWithFollowingStatus(
+                        page.stream().map(FollowEntity::getFollowing).toList(), currentUser));
     }
 
     public List<LikedUser> getLikedUsersByPostId(Long postId, UserEntity currentUser) {
@@ -207,19 +418,41 @@ public class UserService implements UserDetailsService {
                         () -> new PostNotFoundException(postId));
 
         var likedEntities = likeEntityRepository.findByPost(postEntity);
-        return likedEntities.stream().map(
-                likeEntity -> getLikedUserWithFollowingStatus(likeEntity, postEntity, currentUser))
-                .toList();
+        return getLikedUsersWithFollowingStatus(likedEntities, currentUser);
     }
-    private LikedUser getLikedUserWithFollowingStatus(
-            LikeEntity likeEntity, PostEntity postEntity, UserEntity currentUser){
-        var likedUserEntity = likeEntity.getUser();
-        var userWithFollowingStatus =
-                getUserWithFollowingStatus(likedUserEntity, currentUser);
-        return LikedUser.from(
-                userWithFollowingStatus,
-                postEntity.getPostId(),
-                likeEntity.getCreatedDateTime());
+
+    public CursorPage<LikedUser> getLikedUsersByPostId(
+            Long postId, Cursor cursor, int limit, UserEntity currentUser) {
+        var postEntity = postEntityRepository
+                .findById(postId)
+                .orElseThrow(
+                        () -> new PostNotFoundException(postId));
+
+        var pageable = PageRequest.ofSize(limit + 1);
+        var likeEntities = cursor == null
+                ? likeEntityRepository.findLatestByPost(postEntity, pageable)
+                : likeEntityRepository.findLatestByPostBefore(postEntity, cursor.createdDateTime(), cursor.id(), pageable);
+
+        return CursorPage.of(
+                likeEntities,
+                limit,
+                like -> Cursor.of(like.getCreatedDateTime(), like.getLikeId()),
+                page -> getLikedUsersWithFollowingStatus(page, currentUser));
+    }
+
+    private List<LikedUser> getLikedUsersWithFollowingStatus(
+            List<LikeEntity> likeEntities, UserEntity currentUser){
+        var followingUserIds = getFollowingUserIds(
+                likeEntities.stream().map(LikeEntity::getUser).toList(), currentUser);
+
+        return likeEntities.stream().map(
+                likeEntity -> LikedUser.from(
+                        User.from(
+                                likeEntity.getUser(),
+                                followingUserIds.contains(likeEntity.getUser().getUserId())),
+                        likeEntity.getPost().getPostId(),
+                        likeEntity.getCreatedDateTime()))
+                .toList();
     }
 
     public List<LikedUser> getLikedUsersByUser(String username, UserEntity currentUser) {
@@ -227,16 +460,25 @@ public class UserService implements UserDetailsService {
                 .findByUsername(username)
                 .orElseThrow(() -> new UserNotFoundException(username));
 
-        var postEntities = postEntityRepository.findByUser(userEntity);
-        return postEntities
-                .stream()
-                .flatMap(postEntity -> {
-            var likedEntities = likeEntityRepository.findByPost(postEntity);
-            return likedEntities
-                    .stream()
-                    .map(
-                            likeEntity -> getLikedUserWithFollowingStatus(likeEntity, postEntity, currentUser));
-
-        }).toList();
+        var likeEntities = likeEntityRepository.findLikesReceived(userEntity, Pageable.unpaged());
+        return getLikedUsersWithFollowingStatus(likeEntities, currentUser);
+    }
+
+    public CursorPage<LikedUser> getLikedUsersByUser(
+            String username, Cursor cursor, int limit, UserEntity currentUser) {
+        var userEntity = userEntityRepository
+                .findByUsername(username)
+                .orElseThrow(() -> new UserNotFoundException(username));
+
+        var pageable = PageRequest.ofSize(limit + 1);
+        var likeEntities = cursor == null
+                ? likeEntityRepository.findLikesReceived(userEntity, pageable)
+                : likeEntityRepository.findLikesReceivedBefore(userEntity, cursor.createdDateTime(), cursor.id(), pageable);
+
+        return CursorPage.of(
+                likeEntities,
+                limit,
+                like -> Cursor.of(like.getCreatedDateTime(), like.getLikeId()),
+                page -> getLikedUsersWithFollowingStatus(page, currentUser));
     }
 }
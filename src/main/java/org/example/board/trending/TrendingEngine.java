@@ -0,0 +1,106 @@
+package org.example.board.trending;
+
+import org.example.board.event.LikeToggledEvent;
+import org.example.board.event.PostDeletedEvent;
+import org.example.board.event.ReplyCreatedEvent;
+import org.example.board.event.ReplyDeletedEvent;
+import org.example.board.model.post.PostActivity;
+import org.example.board.repository.LikeEntityRepository;
+import org.example.board.repository.ReplyEntityRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+// 좋아요와 댓글 이벤트로 게시물별 감쇠 점수를 유지한다. 조회 시에는 SQL 집계 없이 상위 K 개만 꺼낸다.
+@Component
+public class TrendingEngine implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrendingEngine.class);
+
+    private static final double LIKE_WEIGHT = 1.0;
+    private static final double REPLY_WEIGHT = 2.0;
+
+    private final TrendingScores scores;
+    private final Duration window;
+
+    @Autowired private LikeEntityRepository likeEntityRepository;
+    @Autowired private ReplyEntityRepository replyEntityRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    public TrendingEngine(
+            @Value("${board.trending.half-life:6h}") Duration halfLife,
+            @Value("${board.trending.window:3d}") Duration window,
+            @Value("${board.trending.maximum-size:10000}") int maximumSize){
+        this.scores = new TrendingScores(halfLife, maximumSize, System.currentTimeMillis());
+        this.window = window;
+    }
+
+    // 다시 읽는 도중에 들어온 좋아요/댓글이 clear 로 사라지지 않도록 요청을 받기 전에 만든다.
+    @Override
+    public void afterSingletonsInstantiated(){
+        rebuild();
+    }
+
+    // window 이전의 활동은 이미 충분히 감쇠했으므로 다시 읽지 않는다.
+    public void rebuild(){
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        var since = ZonedDateTime.now().minus(window);
+        scores.clear();
+        transactionTemplate.executeWithoutResult(status -> {
+            try(var likes = likeEntityRepository.streamActivitiesSince(since)){
+                likes.forEach(activity -> add(activity, LIKE_WEIGHT));
+            }
+            try(var replies = replyEntityRepository.streamActivitiesSince(since)){
+                replies.forEach(activity -> add(activity, REPLY_WEIGHT));
+            }
+        });
+        logger.info("Trending scores rebuilt: {} posts since {}", scores.size(), since);
+    }
+
+    public List<Long> getTrendingPostIds(int limit){
+        return scores.top(limit);
+    }
+
+    // 취소할 때는 원래 좋아요 시각 기준으로 빼야 그때 더한 (감쇠된) 만큼만 빠진다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeToggled(LikeToggledEvent event){
+        scores.add(event.postId(), event.liked() ? LIKE_WEIGHT : -LIKE_WEIGHT, toMillis(event.createdDateTime()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReplyCreated(ReplyCreatedEvent event){
+        var replyEntity = event.replyEntity();
+        scores.add(replyEntity.getPost().getPostId(), REPLY_WEIGHT, toMillis(replyEntity.getCreatedDateTime()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReplyDeleted(ReplyDeletedEvent event){
+        var replyEntity = event.replyEntity();
+        scores.add(replyEntity.getPost().getPostId(), -REPLY_WEIGHT, toMillis(replyEntity.getCreatedDateTime()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostDeletedEvent event){
+        scores.remove(event.postEntity().getPostId());
+    }
+
+    private void add(PostActivity activity, double weight){
+        scores.add(activity.postId(), weight, toMillis(activity.createdDateTime()));
+    }
+
+    private static long toMillis(ZonedDateTime dateTime){
+        return dateTime == null ? System.currentTimeMillis() : dateTime.toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.board.trending;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// 시간이 지날수록 지수적으로 감소하는 게시물 점수판.
+// 점수는 anchor 시점 기준 weight * e^(λ(t - anchor)) 로 저장하므로, 모든 점수에 같은 비율로 감쇠가 적용되어
+// 시간이 흘러도 순위를 다시 계산할 필요가 없다. 지수가 너무 커지면 anchor 를 옮기면서 한 번에 다시 맞춘다.
+public class TrendingScores {
+
+    private static final double REBASE_EXPONENT = 100;
+    private static final double MINIMUM_SCORE = 1e-6;
+
+    private record Entry(long postId, double score) { }
+
+    private static final Comparator<Entry> RANKING_ORDER = (a, b) -> a.score() != b.score()
+            ? Double.compare(b.score(), a.score())
+            : Long.compare(b.postId(), a.postId());
+
+    private final double decayPerMilli;
+    private final int maximumSize;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Entry> ranking = new ConcurrentSkipListSet<>(RANKING_ORDER);
+    private long anchorMillis;
+
+    public TrendingScores(Duration halfLife, int maximumSize, long anchorMillis){
+        this.decayPerMilli = Math.log(2) / halfLife.toMillis();
+        this.maximumSize = maximumSize;
+        this.anchorMillis = anchorMillis;
+    }
+
+    public synchronized void add(long postId, double weight, long atMillis){
+        if((atMillis - anchorMillis) * decayPerMilli > REBASE_EXPONENT){
+            rebase(atMillis);
+        }
+
+        var value = weight * Math.exp((atMillis - anchorMillis) * decayPerMilli);
+        var previous = entries.get(postId);
+        var score = previous == null ? value : previous.score() + value;
+
+        if(previous != null){
+            ranking.remove(previous);
+        }
+        if(score <= MINIMUM_SCORE){
+            entries.remove(postId);
+            return;
+        }
+
+        var entry = new Entry(postId, score);
+        entries.put(postId, entry);
+        ranking.add(entry);
+
+        while(entries.size() > maximumSize){
+            var lowest = ranking.pollLast();
+            entries.remove(lowest.postId());
+        }
+    }
+
+    public synchronized void remove(long postId){
+        var entry = entries.remove(postId);
+        if(entry != null){
+            ranking.remove(entry);
+        }
+    }
+
+    public synchronized void clear(){
+        entries.clear();
+        ranking.clear();
+    }
+
+    public int size(){
+        return entries.size();
+    }
+
+    // 읽기는 잠금 없이 skip list 를 순회한다. 갱신 중인 게시물이 잠깐 빠지거나 겹칠 수 있어 postId 로 중복을 거른다.
+    public List<Long> top(int limit){
+        var postIds = new ArrayList<Long>(limit);
+        var seen = new HashSet<Long>();
+        for(var entry : ranking){
+            if(postIds.size() >= limit){
+                break;
+            }
+            if(seen.add(entry.postId())){
+                postIds.add(entry.postId());
+            }
+        }
+        return postIds;
+    }
+
+    private void rebase(long newAnchorMillis){
+        var factor = Math.exp(-(newAnchorMillis - anchorMillis) * decayPerMilli);
+        anchorMillis = newAnchorMillis;
+
+        var rescaled = new ArrayList<Entry>(entries.size());
+        for(var entry : entries.values()){
+            var score = entry.score() * factor;
+            if(score > MINIMUM_SCORE){
+                rescaled.add(new Entry(entry.postId(), score));
+            }
+        }
+
+        entries.clear();
+        ranking.clear();
+        for(var entry : rescaled){
+            entries.put(entry.postId(), entry);
+            ranking.add(entry);
+        }
+    }
+}
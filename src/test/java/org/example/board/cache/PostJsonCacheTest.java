@@ -0,0 +1,61 @@
+package org.example.board.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.board.model.post.Post;
+import org.example.board.model.user.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostJsonCacheTest {
+
+    // Spring Boot 가 HTTP 응답에 쓰는 것과 같은 방식으로 만든다.
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final PostJsonCache cache = new PostJsonCache(
+            100, Duration.ofMinutes(1), objectMapper, new SimpleMeterRegistry());
+
+    private static Post post(String body, long likesCount, Boolean isLiking){
+        var createdDateTime = ZonedDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_000, ZoneId.of("Asia/Seoul"));
+        var user = new User(7L, "alice", null, "\"quoted\" 설명", 3L, 4L,
+                createdDateTime.minusDays(1), createdDateTime.minusDays(1), null);
+        return new Post(1L, body, 2L, likesCount, user,
+                createdDateTime, createdDateTime.plusMinutes(5), null, isLiking);
+    }
+
+    @Test
+    void rendersSameBytesAsObjectMapper() throws Exception {
+        for(var isLiking : new Boolean[]{ true, false, null }){
+            var post = post("안녕하세요 \n <b>json</b> \\  ", 10, isLiking);
+
+            assertArrayEquals(objectMapper.writeValueAsBytes(post), cache.render(post), "isLiking=" + isLiking);
+        }
+    }
+
+    @Test
+    void reusesRenderedJsonAcrossViewers() throws Exception {
+        var liked = post("body", 10, true);
+        var notLiked = post("body", 10, false);
+
+        cache.render(liked);
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(notLiked), cache.render(notLiked));
+        assertArrayEquals(objectMapper.writeValueAsBytes(liked), cache.render(liked));
+    }
+
+    @Test
+    void rerendersWhenPostChanges() throws Exception {
+        cache.render(post("body", 10, true));
+
+        var liked = post("body", 11, true);
+        assertArrayEquals(objectMapper.writeValueAsBytes(liked), cache.render(liked));
+
+        var edited = post("edited", 11, null);
+        assertArrayEquals(objectMapper.writeValueAsBytes(edited), cache.render(edited));
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.board.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TtlCacheTest {
+
+    private final TtlCache<Long, String> cache = new TtlCache<>(2, Duration.ofMinutes(1));
+
+    @Test
+    void getLoadsOnceAndCachesTheValue() {
+        assertEquals("v1", cache.get(1L, key -> "v1"));
+        assertEquals("v1", cache.get(1L, key -> "v2"));
+        assertEquals(1, cache.missCount());
+        assertEquals(1, cache.hitCount());
+    }
+
+    @Test
+    void loadDoesNotOverwriteValuePutWhileLoading() {
+        var loaded = cache.get(1L, key -> {
+            // 읽는 도중에 커밋된 수정이 캐시에 먼저 들어간 경우
+            cache.put(1L, "fresh");
+            return "stale";
+        });
+
+        assertEquals("stale", loaded);
+        assertEquals("fresh", cache.get(1L));
+    }
+
+    @Test
+    void loadIsNotStoredAfterInvalidateWhileLoading() {
+        cache.get(1L, key -> {
+            cache.invalidate(1L);
+            return "stale";
+        });
+
+        assertNull(cache.get(1L));
+        assertEquals("v2", cache.get(1L, key -> "v2"));
+        assertEquals("v2", cache.get(1L));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntry() {
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+        cache.get(1L);
+        cache.put(3L, "c");
+
+        assertEquals("a", cache.get(1L));
+        assertNull(cache.get(2L));
+        assertEquals(1, cache.evictionCount());
+    }
+
+    @Test
+    void putWithShorterTtlExpires() throws InterruptedException {
+        cache.put(1L, "a", Duration.ofMillis(1));
+        Thread.sleep(5);
+
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void loadWithZeroTtlIsReturnedButNotStored() {
+        assertEquals("", cache.get(1L, key -> "", value -> value.isEmpty() ? Duration.ZERO : Duration.ofMinutes(1)));
+        assertNull(cache.get(1L));
+
+        assertEquals("a", cache.get(1L, key -> "a", value -> value.isEmpty() ? Duration.ZERO : Duration.ofMinutes(1)));
+        assertEquals("a", cache.get(1L));
+    }
+
+    @Test
+    void loadWithShorterTtlExpires() throws InterruptedException {
+        cache.get(1L, key -> "a", value -> Duration.ofMillis(1));
+        Thread.sleep(5);
+
+        assertNull(cache.get(1L));
+    }
+}
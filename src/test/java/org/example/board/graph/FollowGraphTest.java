@@ -0,0 +1,128 @@
+package org.example.board.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FollowGraphTest {
+
+    private static final long VIEWER = 1_000_000;
+    private static final long TARGET = 2_000_000;
+
+    // viewer 의 팔로잉과 target 의 팔로워를 각각 만든다.
+    private static FollowGraph graph(long[] viewerFollowings, long[] targetFollowers){
+        var graph = new FollowGraph();
+        for(var id : viewerFollowings){
+            graph.append(VIEWER, id);
+        }
+        for(var id : targetFollowers){
+            graph.append(id, TARGET);
+        }
+        graph.seal();
+        return graph;
+    }
+
+    private static long[] randomIds(Random random, int size, int bound){
+        var ids = new TreeSet<Long>();
+        while(ids.size() < size){
+            ids.add((long) random.nextInt(bound));
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long[] bruteForce(long[] a, long[] b){
+        return Arrays.stream(a).filter(id -> Arrays.binarySearch(b, id) >= 0).toArray();
+    }
+
+    @Test
+    void intersectMatchesBruteForceAroundGallopingThreshold(){
+        var random = new Random(42);
+        // 작은 쪽 4 개 기준으로 큰 쪽이 128 이하면 선형 병합, 129 이상이면 galloping 이다.
+        for(var largeSize : new int[]{ 4, 100, 127, 128, 129, 130, 1_000 }){
+            for(int round = 0; round < 50; round++){
+                var small = randomIds(random, 4, 2_000);
+                var large = randomIds(random, largeSize, 2_000);
+
+                assertArrayEquals(bruteForce(small, large),
+                        graph(small, large).getKnownFollowers(VIEWER, TARGET, Integer.MAX_VALUE));
+                assertArrayEquals(bruteForce(large, small),
+                        graph(large, small).getKnownFollowers(VIEWER, TARGET, Integer.MAX_VALUE));
+            }
+        }
+    }
+
+    @Test
+    void gallopingFindsMatchesAtBothEnds(){
+        var large = new long[200];
+        for(int i = 0; i < large.length; i++){
+            large[i] = i * 2L;
+        }
+        var small = new long[]{ -1, 0, 199, 200, 398, 399 };
+
+        assertArrayEquals(new long[]{ 0, 200, 398 },
+                graph(small, large).getKnownFollowers(VIEWER, TARGET, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void intersectStopsAtLimit(){
+        var large = new long[1_000];
+        for(int i = 0; i < large.length; i++){
+            large[i] = i;
+        }
+        var small = new long[]{ 3, 10, 500, 900, 999 };
+        var similar = Arrays.copyOf(large, 500);
+
+        assertArrayEquals(new long[]{ 3, 10 }, graph(small, large).getKnownFollowers(VIEWER, TARGET, 2));
+        assertArrayEquals(new long[]{ 0, 1, 2 }, graph(similar, large).getKnownFollowers(VIEWER, TARGET, 3));
+        assertArrayEquals(new long[0], graph(small, large).getKnownFollowers(VIEWER, TARGET, 0));
+    }
+
+    @Test
+    void countCommonFollowersIgnoresLimit(){
+        var graph = new FollowGraph();
+        for(long id = 0; id < 100; id++){
+            graph.follow(id, TARGET);
+            if(id % 3 == 0){
+                graph.follow(id, VIEWER);
+            }
+        }
+
+        assertEquals(34, graph.countCommonFollowers(VIEWER, TARGET));
+    }
+
+    @Test
+    void sealSortsAndDeduplicatesAppendedEdges(){
+        var graph = new FollowGraph();
+        graph.append(1, 30);
+        graph.append(1, 10);
+        graph.append(1, 20);
+        graph.append(1, 10);
+        graph.seal();
+
+        assertArrayEquals(new long[]{ 10, 20, 30 }, graph.getFollowings(1));
+        assertEquals(3, graph.getEdgeCount());
+        assertTrue(graph.isFollowing(1, 20));
+    }
+
+    @Test
+    void followAndUnfollowKeepBothDirections(){
+        var graph = new FollowGraph();
+        graph.follow(1, 2);
+        graph.follow(1, 2);
+        graph.follow(3, 2);
+
+        assertEquals(2, graph.getEdgeCount());
+        assertEquals(2, graph.countCommonFollowers(2, 2));
+
+        graph.unfollow(1, 2);
+        graph.unfollow(1, 2);
+
+        assertFalse(graph.isFollowing(1, 2));
+        assertEquals(1, graph.getEdgeCount());
+        assertEquals(1, graph.countCommonFollowers(2, 2));
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.board.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    // nanoTime 은 음수일 수도 있으므로 0 이 아닌 시각에서 시작한다.
+    private static final long START = -5 * SECOND;
+
+    @Test
+    void allowsBurstEqualToCapacity(){
+        var limiter = new RateLimiter(3, 1);
+
+        assertEquals(0, limiter.tryAcquire("a", START));
+        assertEquals(0, limiter.tryAcquire("a", START));
+        assertEquals(0, limiter.tryAcquire("a", START));
+        assertEquals(SECOND, limiter.tryAcquire("a", START));
+    }
+
+    @Test
+    void rejectionDoesNotConsumeToken(){
+        var limiter = new RateLimiter(1, 1);
+
+        assertEquals(0, limiter.tryAcquire("a", START));
+        assertEquals(SECOND, limiter.tryAcquire("a", START));
+        assertEquals(SECOND / 2, limiter.tryAcquire("a", START + SECOND / 2));
+        assertEquals(0, limiter.tryAcquire("a", START + SECOND));
+    }
+
+    @Test
+    void refillsOneTokenPerEmissionInterval(){
+        var limiter = new RateLimiter(2, 4);
+
+        assertEquals(0, limiter.tryAcquire("a", START));
+        assertEquals(0, limiter.tryAcquire("a", START));
+        assertEquals(SECOND / 4, limiter.tryAcquire("a", START));
+
+        assertEquals(0, limiter.tryAcquire("a", START + SECOND / 4));
+        assertTrue(limiter.tryAcquire("a", START + SECOND / 4) > 0);
+
+        // 충분히 쉬어도 capacity 이상은 쌓이지 않는다.
+        var later = START + 10 * SECOND;
+        assertEquals(0, limiter.tryAcquire("a", later));
+        assertEquals(0, limiter.tryAcquire("a", later));
+        assertTrue(limiter.tryAcquire("a", later) > 0);
+    }
+
+    @Test
+    void keysHaveSeparateBuckets(){
+        var limiter = new RateLimiter(1, 1);
+
+        assertEquals(0, limiter.tryAcquire("a", START));
+        assertTrue(limiter.tryAcquire("a", START) > 0);
+        assertEquals(0, limiter.tryAcquire("b", START));
+    }
+
+    @Test
+    void retryAfterIsRoundedUpToWholeSeconds(){
+        assertEquals(1, RateLimiter.toRetryAfterSeconds(1));
+        assertEquals(1, RateLimiter.toRetryAfterSeconds(SECOND / 4));
+        assertEquals(1, RateLimiter.toRetryAfterSeconds(SECOND));
+        assertEquals(2, RateLimiter.toRetryAfterSeconds(SECOND + 1));
+
+        var limiter = new RateLimiter(1, 0.25);
+        limiter.tryAcquire("a", START);
+        assertEquals(4, RateLimiter.toRetryAfterSeconds(limiter.tryAcquire("a", START)));
+    }
+
+    @Test
+    void evictsOnlyBucketsThatHaveBeenFullForIdleTimeout(){
+        var limiter = new RateLimiter(3, 1);
+        var idle = Duration.ofSeconds(1);
+
+        // a 는 1 초 뒤에 가득 차고, b 는 3 초 뒤에 가득 찬다.
+        limiter.tryAcquire("a", START);
+        for(int i = 0; i < 3; i++){
+            limiter.tryAcquire("b", START);
+        }
+
+        assertEquals(0, limiter.evictIdle(idle, START + 2 * SECOND));
+        assertEquals(1, limiter.evictIdle(idle, START + 2 * SECOND + 1));
+        assertEquals(1, limiter.size());
+
+        // 남은 b 는 아직 토큰이 2 개뿐이다.
+        var now = START + 2 * SECOND + 1;
+        assertEquals(0, limiter.tryAcquire("b", now));
+        assertEquals(0, limiter.tryAcquire("b", now));
+        assertTrue(limiter.tryAcquire("b", now) > 0);
+
+        // 이제 b 는 START + 5 초에 가득 차고, 그 뒤 idle 만큼 더 지나야 지워진다.
+        assertEquals(0, limiter.evictIdle(idle, START + 6 * SECOND));
+        assertEquals(1, limiter.evictIdle(idle, START + 6 * SECOND + 1));
+        assertEquals(0, limiter.size());
+    }
+}
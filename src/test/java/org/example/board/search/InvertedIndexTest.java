@@ -0,0 +1,87 @@
+package org.example.board.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedIndexTest {
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    @Test
+    void ranksByTermFrequencyAndDocumentLength() {
+        index.index(1, "spring boot");
+        index.index(2, "spring spring spring boot");
+        index.index(3, "spring boot with a much longer body about other things");
+        index.index(4, "nothing relevant here");
+
+        assertEquals(List.of(2L, 1L, 3L), index.search("spring", 0, 10));
+    }
+
+    @Test
+    void rareTermOutweighsCommonTerm() {
+        index.index(1, "java java");
+        index.index(2, "java kotlin");
+        index.index(3, "java");
+        index.index(4, "java");
+
+        assertEquals(List.of(2L, 1L, 3L, 4L), index.search("java kotlin", 0, 10));
+    }
+
+    @Test
+    void equalScoresAreOrderedByDocId() {
+        index.index(1, "hello");
+        index.index(2, "hello");
+        index.index(3, "hello");
+
+        assertEquals(List.of(1L, 2L, 3L), index.search("HELLO!", 0, 10));
+    }
+
+    @Test
+    void pagesThroughTheSameRanking() {
+        for(long docId = 1; docId <= 10; docId++){
+            index.index(docId, "term " + "term ".repeat((int) docId));
+        }
+        var all = index.search("term", 0, 10);
+
+        assertEquals(all.subList(0, 3), index.search("term", 0, 3));
+        assertEquals(all.subList(3, 6), index.search("term", 3, 3));
+        assertEquals(all.subList(9, 10), index.search("term", 9, 3));
+        assertEquals(List.of(), index.search("term", 10, 3));
+    }
+
+    @Test
+    void hugeOrNegativeOffsetReturnsEmpty() {
+        index.index(1, "term");
+
+        assertEquals(List.of(), index.search("term", Integer.MAX_VALUE, 20));
+        assertEquals(List.of(), index.search("term", Integer.MAX_VALUE - 5, 20));
+        assertEquals(List.of(), index.search("term", -1, 20));
+    }
+
+    @Test
+    void reindexReplacesOldTerms() {
+        index.index(1, "apple");
+        index.index(1, "banana");
+
+        assertEquals(List.of(), index.search("apple", 0, 10));
+        assertEquals(List.of(1L), index.search("banana", 0, 10));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void removeDropsDocumentFromResults() {
+        index.index(1, "apple");
+        index.index(2, "apple pie");
+        index.remove(1);
+
+        assertEquals(List.of(2L), index.search("apple", 0, 10));
+        assertEquals(1, index.size());
+
+        index.remove(2);
+        assertEquals(List.of(), index.search("apple", 0, 10));
+        assertEquals(0, index.size());
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.board.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UsernameIndexTest {
+
+    @Test
+    void prefixMatchesAreRankedByFollowersAcrossWholeRange(){
+        var index = new UsernameIndex();
+        for(long userId = 1; userId <= 10_000; userId++){
+            index.put(userId, "a" + String.format("%05d", userId), userId == 9_999 ? 500 : userId % 7);
+        }
+        index.put(20_000, "azzz", 1_000);
+
+        assertEquals(List.of(20_000L, 9_999L), index.search("a", 2));
+    }
+
+    @Test
+    void exactMatchComesBeforePrefixAndInfix(){
+        var index = new UsernameIndex();
+        index.put(1, "xbob", 1_000);
+        index.put(2, "bobby", 100);
+        index.put(3, "Bob", 0);
+
+        assertEquals(List.of(3L, 2L, 1L), index.search("bob", 10));
+    }
+
+    @Test
+    void infixMatchesAreRankedByFollowers(){
+        var index = new UsernameIndex();
+        for(long userId = 1; userId <= 1_000; userId++){
+            index.put(userId, "user" + userId + "kim", userId == 777 ? 50 : 1);
+        }
+
+        assertEquals(List.of(777L), index.search("kim", 1));
+        assertEquals(3, index.search("kim", 3).size());
+    }
+
+    @Test
+    void putReplacesPreviousNameAndCount(){
+        var index = new UsernameIndex();
+        index.put(1, "alice", 10);
+        index.put(2, "alina", 5);
+        index.put(2, "alina", 20);
+        index.put(1, "carol", 10);
+
+        assertEquals(List.of(2L), index.search("al", 10));
+        assertEquals(List.of(1L), index.search("car", 10));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void blankQueryOrZeroLimitReturnsNothing(){
+        var index = new UsernameIndex();
+        index.put(1, "alice", 10);
+
+        assertEquals(List.of(), index.search("  ", 10));
+        assertEquals(List.of(), index.search("al", 0));
+    }
+}
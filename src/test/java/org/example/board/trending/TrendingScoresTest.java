@@ -0,0 +1,108 @@
+package org.example.board.trending;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrendingScoresTest {
+
+    private static final Duration HALF_LIFE = Duration.ofSeconds(1);
+
+    // λ = ln2 / 1000ms 이므로 이 시각을 넘으면 지수가 100 을 넘어 rebase 된다.
+    private static final long PAST_REBASE_MILLIS = 150_000;
+
+    @Test
+    void olderActivityDecaysByHalfLife(){
+        var scores = new TrendingScores(HALF_LIFE, 10, 0);
+
+        scores.add(1, 5, 0);
+        scores.add(2, 1, 2_000);
+
+        assertEquals(List.of(1L, 2L), scores.top(10));
+
+        scores.add(3, 1, 4_000);
+
+        assertEquals(List.of(3L, 1L, 2L), scores.top(10));
+    }
+
+    @Test
+    void equalScoresAreOrderedByNewestPostId(){
+        var scores = new TrendingScores(HALF_LIFE, 10, 0);
+
+        scores.add(1, 1, 0);
+        scores.add(2, 1, 0);
+        scores.add(3, 1, 0);
+
+        assertEquals(List.of(3L, 2L), scores.top(2));
+    }
+
+    @Test
+    void lowestScoreIsEvictedBeyondMaximumSize(){
+        var scores = new TrendingScores(HALF_LIFE, 2, 0);
+
+        scores.add(1, 5, 0);
+        scores.add(2, 1, 0);
+        scores.add(3, 3, 0);
+
+        assertEquals(2, scores.size());
+        assertEquals(List.of(1L, 3L), scores.top(10));
+    }
+
+    @Test
+    void rebaseKeepsRankingAndAccumulation(){
+        var scores = new TrendingScores(HALF_LIFE, 10, 0);
+
+        // 1e50 * 2^-150 ≈ 7.0e4 로 rebase 뒤에도 살아남는다.
+        scores.add(1, 1e50, 0);
+        scores.add(2, 1e5, PAST_REBASE_MILLIS);
+        scores.add(3, 1e4, PAST_REBASE_MILLIS);
+
+        assertEquals(List.of(2L, 1L, 3L), scores.top(10));
+
+        // rebase 이후에 더해진 점수도 새 anchor 기준으로 누적된다.
+        scores.add(3, 1e5, PAST_REBASE_MILLIS);
+
+        assertEquals(List.of(3L, 2L, 1L), scores.top(10));
+    }
+
+    @Test
+    void rebaseDropsFullyDecayedPosts(){
+        var scores = new TrendingScores(HALF_LIFE, 10, 0);
+
+        scores.add(1, 1, 0);
+        scores.add(2, 1, PAST_REBASE_MILLIS);
+
+        assertEquals(1, scores.size());
+        assertEquals(List.of(2L), scores.top(10));
+    }
+
+    @Test
+    void removedPostLeavesRanking(){
+        var scores = new TrendingScores(HALF_LIFE, 10, 0);
+
+        scores.add(1, 2, 0);
+        scores.add(2, 1, 0);
+        scores.remove(1);
+
+        assertEquals(List.of(2L), scores.top(10));
+        assertEquals(1, scores.size());
+    }
+
+    @Test
+    void removingAtOriginalTimeCancelsOnlyThatActivity(){
+        var scores = new TrendingScores(HALF_LIFE, 10, 0);
+
+        scores.add(1, 1, 0);
+        scores.add(1, 2, 5_000);
+        scores.add(2, 2, 5_000);
+
+        // 오래된 좋아요를 같은 시각 기준으로 빼면 나중에 달린 댓글 점수는 그대로 남는다.
+        scores.add(1, -1, 0);
+
+        assertEquals(2, scores.size());
+        assertEquals(List.of(2L, 1L), scores.top(10));
+    }
+}